@@ -50,6 +50,8 @@ public class SynoBindingConstants {
     public static final String PORT = "port";
     public static final String USER_NAME = "username";
     public static final String PASSWORD = "password";
+    public static final String ACCESS_TOKEN = "accessToken";
+    public static final String READ_TOKEN = "readToken";
     public static final String SERIAL = "serial";
     public static final String SESSION_ID = "sessionID";
 
@@ -61,12 +63,14 @@ public class SynoBindingConstants {
     // List of all Channel ids
     public static final String CHANNEL_SNAPSHOT_URI_DYNAMIC = "common#snapshot-uri-dynamic";
     public static final String CHANNEL_SNAPSHOT_URI_STATIC = "common#snapshot-uri-static";
+    public static final String CHANNEL_SNAPSHOT_URI_LOCAL = "common#snapshot-uri-local";
     public static final String CHANNEL_LIVE_URI_RTSP = "common#live-uri-rtsp";
     public static final String CHANNEL_LIVE_URI_MJPEG_HTTP = "common#live-uri-mjpeg-http";
+    public static final String CHANNEL_LIVE_URI_MJPEG_LOCAL = "common#live-uri-mjpeg-local";
 
     public static final Set<String> STATIC_CHANNELS = Collections
-            .unmodifiableSet(Stream.of(CHANNEL_SNAPSHOT_URI_STATIC, CHANNEL_LIVE_URI_RTSP, CHANNEL_LIVE_URI_MJPEG_HTTP)
-                    .collect(Collectors.toSet()));
+            .unmodifiableSet(Stream.of(CHANNEL_SNAPSHOT_URI_STATIC, CHANNEL_LIVE_URI_RTSP, CHANNEL_LIVE_URI_MJPEG_HTTP,
+                    CHANNEL_LIVE_URI_MJPEG_LOCAL).collect(Collectors.toSet()));
 
     public static final String CHANNEL_SNAPSHOT = "common#snapshot";
     public static final String CHANNEL_RECORD = "common#record";
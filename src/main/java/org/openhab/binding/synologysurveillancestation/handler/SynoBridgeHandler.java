@@ -14,33 +14,62 @@ package org.openhab.binding.synologysurveillancestation.handler;
 
 import static org.openhab.binding.synologysurveillancestation.SynoBindingConstants.*;
 
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Dictionary;
 import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import javax.servlet.http.HttpServlet;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
 import org.openhab.binding.synologysurveillancestation.internal.SynoConfig;
 import org.openhab.binding.synologysurveillancestation.internal.discovery.CameraDiscoveryService;
+import org.openhab.binding.synologysurveillancestation.internal.servlet.SynoEventServlet;
+import org.openhab.binding.synologysurveillancestation.internal.servlet.SynoMjpegRelayServlet;
+import org.openhab.binding.synologysurveillancestation.internal.servlet.SynoSnapshotServlet;
 import org.openhab.binding.synologysurveillancestation.internal.thread.SynoApiThread;
+import org.openhab.binding.synologysurveillancestation.internal.thread.SynoApiThreadCameraList;
 import org.openhab.binding.synologysurveillancestation.internal.thread.SynoApiThreadHomeMode;
+import org.openhab.binding.synologysurveillancestation.internal.thread.SynoApiThreadStation;
+import org.openhab.binding.synologysurveillancestation.internal.thread.SynoApiThreadStationEvent;
+import org.openhab.binding.synologysurveillancestation.internal.thread.SynoApiThreadStationLiveUri;
+import org.openhab.binding.synologysurveillancestation.internal.thread.SynoPollScheduler;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoMetadataCache;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoWebApiHandler;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiBatch;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.response.CameraResponse;
+import org.openhab.core.OpenHAB;
 import org.openhab.core.config.core.Configuration;
 import org.openhab.core.library.types.DecimalType;
 import org.openhab.core.library.types.StringType;
 import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.ChannelUID;
+import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.binding.BaseBridgeHandler;
+import org.openhab.core.thing.binding.ThingHandler;
 import org.openhab.core.types.Command;
 import org.openhab.core.types.RefreshType;
 import org.openhab.core.types.State;
 import org.openhab.core.types.UnDefType;
+import org.osgi.service.http.HttpService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -56,9 +85,39 @@ public class SynoBridgeHandler extends BaseBridgeHandler implements SynoHandler
     private final Logger logger = LoggerFactory.getLogger(SynoBridgeHandler.class);
     private @Nullable CameraDiscoveryService discoveryService;
     private final SynoWebApiHandler apiHandler;
+    private final SynoPollScheduler pollScheduler;
+    private final SynoMetadataCache metadataCache;
     private final Map<String, SynoApiThread<SynoBridgeHandler>> threads = new HashMap<>();
     private final AtomicBoolean refreshInProgress = new AtomicBoolean(false);
     private SynoConfig config = new SynoConfig();
+    private volatile @Nullable CameraResponse cameraStates;
+    private volatile long cameraStatesTime = 0;
+    private volatile @Nullable CompletableFuture<CameraResponse> cameraInventory;
+    private volatile long cameraInventoryTime = 0;
+    private final HttpService httpService;
+    private final List<String> servletPaths = new ArrayList<>();
+    private final Map<String, Long> lastPushTimes = new ConcurrentHashMap<>();
+
+    /**
+     * Number of reconciliation periods without pushed events after which the push path of a camera is considered
+     * inactive
+     */
+    private static final int PUSH_PERIODS = 3;
+
+    /**
+     * Size of a generated access token (bytes)
+     */
+    private static final int ACCESS_TOKEN_SIZE = 16;
+
+    /**
+     * Time the camera list fetched on initialization is used for initializing cameras (ms)
+     */
+    private static final long INVENTORY_TTL = 60000;
+
+    /**
+     * Maximum time to wait for the camera list fetched on initialization (ms)
+     */
+    private static final long INVENTORY_TIMEOUT = 10000;
 
     /**
      * Defines a runnable for a discovery
@@ -72,12 +131,27 @@ public class SynoBridgeHandler extends BaseBridgeHandler implements SynoHandler
         }
     };
 
-    public SynoBridgeHandler(Bridge bridge, HttpClient httpClient) {
+    public SynoBridgeHandler(Bridge bridge, HttpClient httpClient, HttpService httpService) {
         super(bridge);
+        this.httpService = httpService;
         config = getConfigAs(SynoConfig.class);
 
         apiHandler = new SynoWebApiHandler(config, httpClient);
+        String station = bridge.getProperties().getOrDefault(SERIAL, bridge.getUID().getId());
+        metadataCache = new SynoMetadataCache(Path.of(OpenHAB.getUserDataFolder(), BINDING_ID, station + ".json"));
+        pollScheduler = new SynoPollScheduler("binding-" + BINDING_ID + "-" + bridge.getUID().getId(), scheduler,
+                config.getMaxRequests());
+        pollScheduler.setStatistics(apiHandler::getStatistics);
         threads.put(SynoApiThread.THREAD_HOMEMODE, new SynoApiThreadHomeMode(this, config.getRefreshRateEvents()));
+        threads.put(SynoApiThread.THREAD_CAMERALIST, new SynoApiThreadCameraList(this, config.getRefreshRateEvents()));
+        threads.put(SynoApiThread.THREAD_STATIONEVENT,
+                new SynoApiThreadStationEvent(this, config.getRefreshRateEvents()));
+        threads.put(SynoApiThread.THREAD_STATIONLIVEURI,
+                new SynoApiThreadStationLiveUri(this, config.getRefreshRateEvents()));
+        threads.put(SynoApiThread.THREAD_STATION, new SynoApiThreadStation(this, config.getRefreshRateEvents(),
+                List.of(threads.get(SynoApiThread.THREAD_HOMEMODE), threads.get(SynoApiThread.THREAD_CAMERALIST),
+                        threads.get(SynoApiThread.THREAD_STATIONEVENT),
+                        threads.get(SynoApiThread.THREAD_STATIONLIVEURI))));
         try {
             reconnect(false);
         } catch (WebApiException e) {
@@ -167,15 +241,25 @@ public class SynoBridgeHandler extends BaseBridgeHandler implements SynoHandler
                 reconnect(false);
             }
 
+            if (config.getAccessToken().isEmpty() || config.getReadToken().isEmpty()) {
+                createTokens();
+            }
+            metadataCache.load();
+            pollScheduler.setWorkers(config.getMaxRequests());
+            pollScheduler.setVirtualThreads(config.isVirtualThreads());
+            pollScheduler.start();
+
             // if needed add other infos
             // InfoResponse infoResponse = apiHandler.getInfo();
             // getThing().setProperty(SynoApiResponse.PROP_CAMERANUMBER,
             // infoResponse.getData().get(SynoApiResponse.PROP_CAMERANUMBER).getAsString());
 
-            for (SynoApiThread<SynoBridgeHandler> thread : threads.values()) {
-                thread.start();
-            }
+            // Home mode, camera states and camera events are refreshed together by the station tick
+            threads.get(SynoApiThread.THREAD_STATION).start();
 
+            registerServlets();
+
+            prefetchCameras();
             updateStatus(ThingStatus.ONLINE);
             handleCommand(new ChannelUID(getThing().getUID(), CHANNEL_SID), RefreshType.REFRESH);
 
@@ -197,9 +281,11 @@ public class SynoBridgeHandler extends BaseBridgeHandler implements SynoHandler
 
     @Override
     public void dispose() {
-        for (SynoApiThread<SynoBridgeHandler> thread : threads.values()) {
-            thread.stop();
-        }
+        SynoApiThread.stopAll(threads.values());
+        pollScheduler.stop();
+        unregisterServlets();
+        cameraStates = null;
+        cameraInventory = null;
         try {
             apiHandler.disconnect();
         } catch (WebApiException e) {
@@ -218,9 +304,18 @@ public class SynoBridgeHandler extends BaseBridgeHandler implements SynoHandler
         SynoConfig newConfig = configuration.as(SynoConfig.class);
 
         if (!oldConfig.equals(newConfig)) {
-            if (oldConfig.equalsButForRefresh(newConfig)) {
+            // An empty token is replaced by a new one on initialization
+            if (oldConfig.equalsButForRefresh(newConfig) && !newConfig.getAccessToken().isEmpty()
+                    && !newConfig.getReadToken().isEmpty()) {
                 updateConfiguration(configuration);
+                config = newConfig;
+                apiHandler.setConfig(newConfig);
+                pollScheduler.setWorkers(newConfig.getMaxRequests());
                 threads.get(SynoApiThread.THREAD_HOMEMODE).setRefreshRate(newConfig.getRefreshRateEvents());
+                threads.get(SynoApiThread.THREAD_CAMERALIST).setRefreshRate(newConfig.getRefreshRateEvents());
+                threads.get(SynoApiThread.THREAD_STATIONEVENT).setRefreshRate(newConfig.getRefreshRateEvents());
+                threads.get(SynoApiThread.THREAD_STATIONLIVEURI).setRefreshRate(newConfig.getRefreshRateEvents());
+                threads.get(SynoApiThread.THREAD_STATION).setRefreshRate(newConfig.getRefreshRateEvents());
             } else {
                 super.handleConfigurationUpdate(configurationParameters);
             }
@@ -254,4 +349,226 @@ public class SynoBridgeHandler extends BaseBridgeHandler implements SynoHandler
     public ScheduledExecutorService getScheduler() {
         return scheduler;
     }
+
+    /**
+     * @return scheduler running the refresh jobs of this bridge and its cameras
+     */
+    @Override
+    public SynoPollScheduler getPollScheduler() {
+        return pollScheduler;
+    }
+
+    /**
+     * @return persisted metadata of the cameras of this Station
+     */
+    public SynoMetadataCache getMetadataCache() {
+        return metadataCache;
+    }
+
+    /**
+     * Stores the latest state of all cameras as polled by the bridge
+     *
+     * @param cameraStates Response of the camera list
+     */
+    public void setCameraStates(CameraResponse cameraStates) {
+        this.cameraStates = cameraStates;
+        this.cameraStatesTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Returns the latest state of all cameras, if it has been polled recently enough
+     *
+     * @return Response of the camera list or null if not available or outdated
+     */
+    public @Nullable CameraResponse getCameraStates() {
+        int refreshRate = threads.get(SynoApiThread.THREAD_CAMERALIST).getRefreshRate();
+        if (refreshRate > 0 && System.currentTimeMillis() - cameraStatesTime <= refreshRate * 2000L + 1000L) {
+            return cameraStates;
+        }
+        return null;
+    }
+
+    /**
+     * Fetches the camera list and the motion detection parameters of all camera Things with a single compound
+     * request. Cameras initialized as the bridge goes online take their details from it instead of querying the
+     * Station one by one, motion detection parameters are served from the response cache.
+     */
+    private void prefetchCameras() {
+        SynoApiBatch.Batch batch = apiHandler.getApiBatch().newBatch();
+        CompletableFuture<CameraResponse> inventory = apiHandler.getApiCamera().listCameras(batch);
+        for (Thing thing : getThing().getThings()) {
+            if (THING_TYPE_CAMERA.equals(thing.getThingTypeUID())) {
+                apiHandler.getApiCameraEvent().getMDParam(thing.getUID().getId(), batch);
+            }
+        }
+        cameraInventory = inventory.thenApply(response -> {
+            setCameraStates(response);
+            return response;
+        });
+        cameraInventoryTime = System.currentTimeMillis();
+        batch.execute();
+    }
+
+    /**
+     * Returns the camera list fetched on initialization, waiting for it if still in progress
+     *
+     * @return Response of the camera list or null if not available or outdated
+     */
+    public @Nullable CameraResponse getCameraInventory() {
+        CompletableFuture<CameraResponse> inventory = cameraInventory;
+        if (inventory == null || System.currentTimeMillis() - cameraInventoryTime > INVENTORY_TTL) {
+            return null;
+        }
+        try {
+            return inventory.get(INVENTORY_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            logger.debug("Camera list not available: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * @return if camera events are polled by the bridge for all cameras at once
+     */
+    public boolean isStationEventPolling() {
+        return getThing().getStatus() == ThingStatus.ONLINE
+                && threads.get(SynoApiThread.THREAD_STATIONEVENT).getRefreshRate() > 0;
+    }
+
+    /**
+     * @return if live URIs are refreshed by the bridge for all cameras at once
+     */
+    public boolean isStationLiveUriPolling() {
+        return getThing().getStatus() == ThingStatus.ONLINE
+                && threads.get(SynoApiThread.THREAD_STATIONLIVEURI).getRefreshRate() > 0;
+    }
+
+    /**
+     * @return handlers of all online cameras of this bridge
+     */
+    public List<SynoCameraHandler> getCameraHandlers() {
+        List<SynoCameraHandler> cameras = new ArrayList<>();
+        for (Thing thing : getThing().getThings()) {
+            ThingHandler handler = thing.getHandler();
+            if (handler instanceof SynoCameraHandler && thing.getStatus() == ThingStatus.ONLINE) {
+                cameras.add((SynoCameraHandler) handler);
+            }
+        }
+        return cameras;
+    }
+
+    /**
+     * Stores new random tokens in the configuration for the access and read tokens not yet set
+     */
+    private void createTokens() {
+        SecureRandom random = new SecureRandom();
+        Configuration configuration = editConfiguration();
+        for (String parameter : List.of(ACCESS_TOKEN, READ_TOKEN)) {
+            Object current = configuration.get(parameter);
+            if (current == null || current.toString().isEmpty()) {
+                byte[] token = new byte[ACCESS_TOKEN_SIZE];
+                random.nextBytes(token);
+                configuration.put(parameter, HexFormat.of().formatHex(token));
+                logger.debug("{} created for {}", parameter, getThing().getUID());
+            }
+        }
+        updateConfiguration(configuration);
+        config = getConfigAs(SynoConfig.class);
+        apiHandler.setConfig(config);
+    }
+
+    /**
+     * @return the access token required by the servlets of this bridge, empty if not yet created
+     */
+    public String getAccessToken() {
+        return config.getAccessToken();
+    }
+
+    /**
+     * @return the token granting read-only access to the snapshot and live feed servlets of this bridge, empty if
+     *         not yet created
+     */
+    public String getReadToken() {
+        return config.getReadToken();
+    }
+
+    /**
+     * Registers the servlets receiving pushed events, serving snapshots and relaying live feeds
+     */
+    private void registerServlets() {
+        String base = "/" + BINDING_ID + "/" + getThing().getUID().getId();
+        registerServlet(base + SynoEventServlet.SERVLET_PATH, new SynoEventServlet(this), null);
+        registerServlet(base + SynoSnapshotServlet.SERVLET_PATH, new SynoSnapshotServlet(this), null);
+        // Live feeds are written with non-blocking I/O
+        registerServlet(base + SynoMjpegRelayServlet.SERVLET_PATH, new SynoMjpegRelayServlet(this),
+                new Hashtable<>(Map.of("async-supported", "true")));
+    }
+
+    /**
+     * Registers a servlet unless already registered
+     *
+     * @param path
+     * @param servlet
+     * @param initParams Init parameters of the servlet, may be null
+     */
+    private void registerServlet(String path, HttpServlet servlet, @Nullable Dictionary<String, String> initParams) {
+        if (!servletPaths.contains(path)) {
+            try {
+                httpService.registerServlet(path, servlet, initParams, httpService.createDefaultHttpContext());
+                servletPaths.add(path);
+                logger.debug("Servlet registered at {}", path);
+            } catch (Exception e) {
+                logger.warn("Servlet could not be registered at {}: {}", path, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Unregisters all servlets of this bridge
+     */
+    private void unregisterServlets() {
+        for (String path : servletPaths) {
+            try {
+                httpService.unregister(path);
+            } catch (IllegalArgumentException e) {
+                logger.debug("Servlet was not registered at {}", path);
+            }
+        }
+        servletPaths.clear();
+    }
+
+    /**
+     * Notes the arrival of a pushed event
+     *
+     * @param cameraId Camera the event has been pushed for
+     */
+    public void pushReceived(String cameraId) {
+        lastPushTimes.put(cameraId, System.currentTimeMillis());
+    }
+
+    /**
+     * @param cameraId
+     * @return if events have been pushed for the camera within the last reconciliation periods
+     */
+    public boolean isPushActive(String cameraId) {
+        int reconcileRate = config.getRefreshRateReconcile();
+        Long lastPushTime = lastPushTimes.get(cameraId);
+        return reconcileRate > 0 && lastPushTime != null
+                && System.currentTimeMillis() - lastPushTime < PUSH_PERIODS * reconcileRate * 1000L;
+    }
+
+    /**
+     * Checks if events of a camera have to be polled. While events are pushed for the camera, polling is reduced to
+     * the reconciliation rate.
+     *
+     * @param cameraId
+     * @param lastPoll Time of the last successful poll (ms)
+     * @return if a poll is due
+     */
+    public boolean isEventPollDue(String cameraId, long lastPoll) {
+        return !isPushActive(cameraId)
+                || System.currentTimeMillis() - lastPoll >= config.getRefreshRateReconcile() * 1000L;
+    }
 }
@@ -16,25 +16,43 @@ import static org.openhab.binding.synologysurveillancestation.SynoBindingConstan
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.synologysurveillancestation.internal.SynoCameraConfig;
 import org.openhab.binding.synologysurveillancestation.internal.discovery.SynoDynamicStateDescriptionProvider;
+import org.openhab.binding.synologysurveillancestation.internal.servlet.SynoMjpegRelayServlet;
+import org.openhab.binding.synologysurveillancestation.internal.servlet.SynoServlet;
+import org.openhab.binding.synologysurveillancestation.internal.servlet.SynoSnapshotServlet;
 import org.openhab.binding.synologysurveillancestation.internal.thread.SynoApiThread;
 import org.openhab.binding.synologysurveillancestation.internal.thread.SynoApiThreadCamera;
 import org.openhab.binding.synologysurveillancestation.internal.thread.SynoApiThreadCameraEvent;
 import org.openhab.binding.synologysurveillancestation.internal.thread.SynoApiThreadEvent;
 import org.openhab.binding.synologysurveillancestation.internal.thread.SynoApiThreadLiveUri;
 import org.openhab.binding.synologysurveillancestation.internal.thread.SynoApiThreadSnapshot;
+import org.openhab.binding.synologysurveillancestation.internal.thread.SynoPollScheduler;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoEventCursor;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoMetadataCache;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoMjpegParser;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoMjpegRelay;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoMjpegStream;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoSnapshot;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoWebApiHandler;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiLiveUri;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.response.CameraEventResponse;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.response.CameraResponse;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.response.EventResponse;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.response.LiveUriResponse;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.response.SimpleResponse;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.response.SynoApiResponse;
 import org.openhab.core.config.core.Configuration;
@@ -46,6 +64,7 @@ import org.openhab.core.thing.Thing;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.ThingStatusInfo;
+import org.openhab.core.thing.ThingUID;
 import org.openhab.core.thing.binding.BaseThingHandler;
 import org.openhab.core.thing.binding.builder.ThingBuilder;
 import org.openhab.core.types.Command;
@@ -75,6 +94,14 @@ public class SynoCameraHandler extends BaseThingHandler implements SynoHandler {
     private final Map<String, SynoApiThread<SynoCameraHandler>> threads = new HashMap<>();
     private List<StateOption> presets = new ArrayList<>();
     private List<StateOption> patrols = new ArrayList<>();
+    // Commands waiting to be run on the poll scheduler, one at a time and in the order received
+    private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean commandsRunning = new AtomicBoolean(false);
+    // MJPEG live feed shared by the local live feed and the MJPEG snapshot mode
+    private final SynoMjpegRelay liveFeed;
+    // Pending query of the camera details started by initialize()
+    private @Nullable Future<?> initializeJob;
+    private volatile boolean disposed = false;
 
     private @Nullable SynoDynamicStateDescriptionProvider stateDescriptionProvider;
 
@@ -89,6 +116,7 @@ public class SynoCameraHandler extends BaseThingHandler implements SynoHandler {
 
         this.stateDescriptionProvider = stateDescriptionProvider;
         SynoCameraConfig config = getThing().getConfiguration().as(SynoCameraConfig.class);
+        liveFeed = new SynoMjpegRelay(thing.getUID().getId(), this::openLiveFeed, scheduler);
 
         threads.put(SynoApiThread.THREAD_SNAPSHOT, new SynoApiThreadSnapshot(this, config.getRefreshRateSnapshot()));
         threads.put(SynoApiThread.THREAD_EVENT, new SynoApiThreadEvent(this, config.getRefreshRateEvents()));
@@ -100,6 +128,41 @@ public class SynoCameraHandler extends BaseThingHandler implements SynoHandler {
 
     @Override
     public void handleCommand(ChannelUID channelUID, Command command) {
+        // Blocking API calls are moved off the caller thread if the bridge runs on virtual threads
+        SynoPollScheduler pollScheduler = getPollScheduler();
+        if (pollScheduler == null || !pollScheduler.isVirtualThreads()) {
+            executeCommand(channelUID, command);
+            return;
+        }
+        commands.add(() -> executeCommand(channelUID, command));
+        if (commandsRunning.compareAndSet(false, true) && !pollScheduler.execute(this::runCommands)) {
+            runCommands();
+        }
+    }
+
+    /**
+     * Runs the queued commands one after another, so commands to this camera never overtake each other
+     */
+    private void runCommands() {
+        do {
+            for (Runnable next = commands.poll(); next != null; next = commands.poll()) {
+                try {
+                    next.run();
+                } catch (RuntimeException e) {
+                    logger.warn("Camera {}: command failed: {}", cameraId, e.getMessage());
+                }
+            }
+            commandsRunning.set(false);
+        } while (!commands.isEmpty() && commandsRunning.compareAndSet(false, true));
+    }
+
+    /**
+     * Handles a command on the calling thread
+     *
+     * @param channelUID
+     * @param command
+     */
+    private void executeCommand(ChannelUID channelUID, Command command) {
         if (getBridge() != null) {
             if (getBridge().getStatus() == ThingStatus.ONLINE) {
                 SynoWebApiHandler apiHandler = ((SynoBridgeHandler) getBridge().getHandler()).getSynoWebApiHandler();
@@ -108,6 +171,8 @@ public class SynoCameraHandler extends BaseThingHandler implements SynoHandler {
                     if (command.toString().equals("REFRESH")) {
                         switch (channelUID.getId()) {
                             case CHANNEL_SNAPSHOT:
+                            case CHANNEL_SNAPSHOT_URI_LOCAL:
+                                ((SynoApiThreadSnapshot) threads.get(SynoApiThread.THREAD_SNAPSHOT)).invalidate();
                                 threads.get(SynoApiThread.THREAD_SNAPSHOT).runOnce();
                                 break;
                             case CHANNEL_EVENT_MOTION:
@@ -132,6 +197,9 @@ public class SynoCameraHandler extends BaseThingHandler implements SynoHandler {
                                 String mjpeg = apiHandler.getApiLiveUri().getLiveUriResponse(cameraId).getMjpegHttp();
                                 updateState(channelUID, new StringType(mjpeg));
                                 break;
+                            case CHANNEL_LIVE_URI_MJPEG_LOCAL:
+                                updateState(channelUID, new StringType(getMjpegRelayPath()));
+                                break;
                             case CHANNEL_MDPARAM_SOURCE:
                             case CHANNEL_MDPARAM_SENSITIVITY:
                             case CHANNEL_MDPARAM_THRESHOLD:
@@ -213,6 +281,8 @@ public class SynoCameraHandler extends BaseThingHandler implements SynoHandler {
     @Override
     public void initialize() {
         logger.debug("Initialize Camera Handler...");
+        disposed = false;
+        cancelInitializeJob();
 
         if (getBridge() != null) {
             cameraId = getThing().getUID().getId();
@@ -220,67 +290,188 @@ public class SynoCameraHandler extends BaseThingHandler implements SynoHandler {
             logger.debug("Initializing SynologySurveillanceStationHandler for cameraId '{}'", cameraId);
 
             if (getBridge().getStatus() == ThingStatus.ONLINE) {
-                SynoWebApiHandler apiHandler = ((SynoBridgeHandler) getBridge().getHandler()).getSynoWebApiHandler();
-
-                try {
-                    List<String> toExclude = new ArrayList<>();
+                // Metadata persisted by a previous run lets the camera go online right away
+                SynoMetadataCache.CameraMetadata metadata = ((SynoBridgeHandler) getBridge().getHandler())
+                        .getMetadataCache().get(cameraId);
+                if (metadata != null) {
+                    applyMetadata(metadata);
+                    startRefresh();
+                } else {
+                    updateStatus(ThingStatus.UNKNOWN);
+                }
+                // Cameras of a bridge going online are (re)validated in parallel on the bounded handler pool
+                initializeJob = scheduler.submit(this::initializeCamera);
+            } else {
+                updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.OFFLINE.BRIDGE_OFFLINE);
+            }
+        } else {
+            updateStatus(ThingStatus.OFFLINE);
+        }
 
-                    CameraResponse cameraDetails = apiHandler.getApiCamera().getInfo(cameraId);
-                    Map<String, Object> properties = cameraDetails.getCameraProperties(cameraId);
-                    if (properties.isEmpty()) {
-                        updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.OFFLINE.GONE);
-                        return;
-                    }
-                    ptz = properties.getOrDefault(SynoApiResponse.PROP_PTZ, "false").equals("true");
+        if (logger.isDebugEnabled()) {
+            logger.debug("Initialize thing: {}::{}", getThing().getLabel(), getThing().getUID());
+        }
+    }
 
-                    if (!ptz) {
-                        toExclude.addAll(CHANNEL_PTZ);
-                    } else {
-                        if (isLinked(CHANNEL_MOVEPRESET)) {
-                            updatePresets();
-                        }
+    /**
+     * Queries the camera details and starts the refresh jobs, off the thread calling {@link #initialize()}
+     */
+    @SuppressWarnings("null")
+    private void initializeCamera() {
+        Bridge bridge = getBridge();
+        if (bridge == null || bridge.getStatus() != ThingStatus.ONLINE
+                || !(bridge.getHandler() instanceof SynoBridgeHandler)) {
+            return;
+        }
+        SynoBridgeHandler bridgeHandler = (SynoBridgeHandler) bridge.getHandler();
+        SynoWebApiHandler apiHandler = bridgeHandler.getSynoWebApiHandler();
 
-                        if (isLinked(CHANNEL_RUNPATROL)) {
-                            updatePatrols();
-                        }
-                    }
+        try {
+            List<String> toExclude = new ArrayList<>();
 
-                    CameraEventResponse cameraEventResponse = apiHandler.getApiCameraEvent().getMDParam(cameraId);
-                    if (!cameraEventResponse.isSuccess()) {
-                        toExclude.addAll(CHANNEL_MDPARAM);
-                    } else {
-                        threads.get(SynoApiThread.THREAD_CAMERAEVENT).runOnce();
-                    }
+            // Details are taken from the camera list fetched by the bridge, if available
+            CameraResponse cameraDetails = bridgeHandler.getCameraInventory();
+            if (cameraDetails == null || !cameraDetails.hasCamera(cameraId)) {
+                cameraDetails = apiHandler.getApiCamera().getInfo(cameraId);
+            }
+            Map<String, Object> properties = cameraDetails.getCameraProperties(cameraId);
+            if (properties.isEmpty()) {
+                // The jobs may already run from persisted metadata of a camera removed from the Station since
+                SynoApiThread.stopAll(threads.values());
+                bridgeHandler.getMetadataCache().remove(cameraId);
+                updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.OFFLINE.GONE);
+                return;
+            }
+            ptz = properties.getOrDefault(SynoApiResponse.PROP_PTZ, "false").equals("true");
 
-                    if (!toExclude.isEmpty()) {
-                        ThingBuilder thingBuilder = editThing();
-                        for (String channel : toExclude) {
-                            thingBuilder.withoutChannel(new ChannelUID(getThing().getUID(), channel));
-                        }
-                        updateThing(thingBuilder.build());
-                    }
-                } catch (WebApiException e) {
-                    logger.error("initialize camera: id {} - {}::{}", cameraId, getThing().getLabel(),
-                            getThing().getUID());
-                    logger.error("Full stack trace: ", e);
+            if (!ptz) {
+                toExclude.addAll(CHANNEL_PTZ);
+            } else {
+                if (isLinked(CHANNEL_MOVEPRESET)) {
+                    updatePresets();
                 }
 
-                updateStatus(ThingStatus.ONLINE);
-                for (SynoApiThread<SynoCameraHandler> thread : threads.values()) {
-                    thread.start();
+                if (isLinked(CHANNEL_RUNPATROL)) {
+                    updatePatrols();
                 }
+            }
 
-                refreshStatic();
+            CameraEventResponse cameraEventResponse = apiHandler.getApiCameraEvent().getMDParam(cameraId);
+            if (!cameraEventResponse.isSuccess()) {
+                toExclude.addAll(CHANNEL_MDPARAM);
             } else {
-                updateStatus(ThingStatus.OFFLINE, ThingStatusDetail.OFFLINE.BRIDGE_OFFLINE);
+                threads.get(SynoApiThread.THREAD_CAMERAEVENT).runOnce();
             }
-        } else {
-            updateStatus(ThingStatus.OFFLINE);
+
+            Map<String, String> metadataProperties = new LinkedHashMap<>();
+            for (Entry<String, Object> property : properties.entrySet()) {
+                metadataProperties.put(property.getKey(), String.valueOf(property.getValue()));
+            }
+            bridgeHandler.getMetadataCache().put(cameraId, new SynoMetadataCache.CameraMetadata(metadataProperties,
+                    cameraEventResponse.isSuccess(), toMap(presets), toMap(patrols)));
+
+            excludeChannels(toExclude);
+        } catch (WebApiException e) {
+            if (disposed || Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            logger.error("initialize camera: id {} - {}::{}", cameraId, getThing().getLabel(), getThing().getUID());
+            logger.error("Full stack trace: ", e);
         }
 
-        if (logger.isDebugEnabled()) {
-            logger.debug("Initialize thing: {}::{}", getThing().getLabel(), getThing().getUID());
+        // The handler may have been disposed or initialized again while the camera details were queried
+        if (disposed || Thread.currentThread().isInterrupted() || getBridge() == null
+                || getBridge().getStatus() != ThingStatus.ONLINE) {
+            return;
+        }
+        if (getThing().getStatus() != ThingStatus.ONLINE) {
+            startRefresh();
+        }
+        // Static channels may block on the Station, so they are refreshed here rather than on a warm start
+        refreshStatic();
+    }
+
+    /**
+     * Sets the camera online and starts the refresh jobs
+     */
+    private void startRefresh() {
+        updateStatus(ThingStatus.ONLINE);
+        for (SynoApiThread<SynoCameraHandler> thread : threads.values()) {
+            thread.start();
+        }
+    }
+
+    /**
+     * Restores PTZ support, presets and patrols from persisted metadata
+     *
+     * @param metadata
+     */
+    @SuppressWarnings("null")
+    private void applyMetadata(SynoMetadataCache.CameraMetadata metadata) {
+        ptz = metadata.getProperties().getOrDefault(SynoApiResponse.PROP_PTZ, "false").equals("true");
+        // Channels of Things defined in files are restored on every start, so unsupported ones are removed again
+        List<String> toExclude = new ArrayList<>();
+        if (!ptz) {
+            toExclude.addAll(CHANNEL_PTZ);
+        }
+        if (!metadata.isMdParam()) {
+            toExclude.addAll(CHANNEL_MDPARAM);
+        }
+        excludeChannels(toExclude);
+        presets = toOptions(metadata.getPresets());
+        patrols = toOptions(metadata.getPatrols());
+        if (!presets.isEmpty()) {
+            stateDescriptionProvider.setStateOptions(new ChannelUID(getThing().getUID(), CHANNEL_MOVEPRESET),
+                    presets);
+        }
+        if (!patrols.isEmpty()) {
+            stateDescriptionProvider.setStateOptions(new ChannelUID(getThing().getUID(), CHANNEL_RUNPATROL),
+                    patrols);
+        }
+    }
+
+    /**
+     * Removes channels not supported by the camera
+     *
+     * @param toExclude IDs of the channels
+     */
+    private void excludeChannels(List<String> toExclude) {
+        ThingBuilder thingBuilder = editThing();
+        boolean changed = false;
+        for (String channel : toExclude) {
+            if (getThing().getChannel(channel) != null) {
+                thingBuilder.withoutChannel(new ChannelUID(getThing().getUID(), channel));
+                changed = true;
+            }
         }
+        if (changed) {
+            updateThing(thingBuilder.build());
+        }
+    }
+
+    /**
+     * @param options
+     * @return labels of the options by value
+     */
+    private static Map<String, String> toMap(List<StateOption> options) {
+        Map<String, String> map = new LinkedHashMap<>();
+        for (StateOption option : options) {
+            String label = option.getLabel();
+            map.put(option.getValue(), label != null ? label : option.getValue());
+        }
+        return map;
+    }
+
+    /**
+     * @param map
+     * @return options with labels by value
+     */
+    private static List<StateOption> toOptions(Map<String, String> map) {
+        List<StateOption> options = new ArrayList<>();
+        for (Entry<String, String> entry : map.entrySet()) {
+            options.add(new StateOption(entry.getKey(), entry.getValue()));
+        }
+        return options;
     }
 
     public void refreshStatic() {
@@ -294,9 +485,30 @@ public class SynoCameraHandler extends BaseThingHandler implements SynoHandler {
 
     @Override
     public void dispose() {
-        for (SynoApiThread<SynoCameraHandler> thread : threads.values()) {
-            thread.stop();
+        disposed = true;
+        cancelInitializeJob();
+        SynoApiThread.stopAll(threads.values());
+        liveFeed.close();
+    }
+
+    /**
+     * Cancels a query of the camera details still pending or running
+     */
+    private void cancelInitializeJob() {
+        Future<?> job = initializeJob;
+        if (job != null) {
+            job.cancel(true);
+            initializeJob = null;
+        }
+    }
+
+    @Override
+    public void handleRemoval() {
+        Bridge bridge = getBridge();
+        if (bridge != null && bridge.getHandler() instanceof SynoBridgeHandler) {
+            ((SynoBridgeHandler) bridge.getHandler()).getMetadataCache().remove(getThing().getUID().getId());
         }
+        super.handleRemoval();
     }
 
     @Override
@@ -309,6 +521,7 @@ public class SynoCameraHandler extends BaseThingHandler implements SynoHandler {
         SynoCameraConfig config = thing.getConfiguration().as(SynoCameraConfig.class);
 
         threads.get(SynoApiThread.THREAD_SNAPSHOT).setRefreshRate(config.getRefreshRateSnapshot());
+        ((SynoApiThreadSnapshot) threads.get(SynoApiThread.THREAD_SNAPSHOT)).setConfig(config);
         threads.get(SynoApiThread.THREAD_EVENT).setRefreshRate(config.getRefreshRateEvents());
         threads.get(SynoApiThread.THREAD_CAMERA).setRefreshRate(config.getRefreshRateEvents());
         threads.get(SynoApiThread.THREAD_LIVEURI).setRefreshRate(config.getRefreshRateEvents());
@@ -371,6 +584,79 @@ public class SynoCameraHandler extends BaseThingHandler implements SynoHandler {
         return scheduler;
     }
 
+    /**
+     * @return poll scheduler of the bridge
+     */
+    @Override
+    public @Nullable SynoPollScheduler getPollScheduler() {
+        Bridge bridge = getBridge();
+        if (bridge != null && bridge.getHandler() instanceof SynoBridgeHandler) {
+            return ((SynoBridgeHandler) bridge.getHandler()).getPollScheduler();
+        }
+        return null;
+    }
+
+    /**
+     * @return the latest snapshot held in memory or null if not available
+     */
+    public @Nullable SynoSnapshot getSnapshot() {
+        return ((SynoApiThreadSnapshot) threads.get(SynoApiThread.THREAD_SNAPSHOT)).getLatest();
+    }
+
+    /**
+     * @return path of the latest snapshot served by openHAB, including the access token
+     */
+    public String getSnapshotPath() {
+        return getServletPath(SynoSnapshotServlet.SERVLET_PATH);
+    }
+
+    /**
+     * @return path of the MJPEG live feed relayed by openHAB, including the access token
+     */
+    public String getMjpegRelayPath() {
+        return getServletPath(SynoMjpegRelayServlet.SERVLET_PATH);
+    }
+
+    /**
+     * @param servletPath
+     * @return path of this camera at a servlet of the bridge with the read token as query parameter, the access
+     *         token is kept out of channel states
+     */
+    private String getServletPath(String servletPath) {
+        ThingUID bridgeUID = getThing().getBridgeUID();
+        String bridgeId = bridgeUID == null ? "" : bridgeUID.getId();
+        Bridge bridge = getBridge();
+        String token = bridge != null && bridge.getHandler() instanceof SynoBridgeHandler
+                ? ((SynoBridgeHandler) bridge.getHandler()).getReadToken()
+                : "";
+        return "/" + BINDING_ID + "/" + bridgeId + servletPath + "/" + cameraId + "?" + SynoServlet.PARAM_TOKEN + "="
+                + token;
+    }
+
+    /**
+     * @return the MJPEG live feed of this camera, shared by all its users
+     */
+    public SynoMjpegRelay getLiveFeed() {
+        return liveFeed;
+    }
+
+    /**
+     * Opens a connection to the MJPEG live feed of this camera
+     *
+     * @param listener Listener receiving the frames
+     * @return the opened live feed
+     * @throws WebApiException if the live feed is not available
+     */
+    private SynoMjpegStream openLiveFeed(SynoMjpegParser.FrameListener listener) throws WebApiException {
+        SynoApiLiveUri apiLiveUri = getSynoWebApiHandler().getApiLiveUri();
+        LiveUriResponse response = apiLiveUri.getLiveUriResponse(cameraId);
+        String uri = response.isSuccess() ? response.getMjpegHttp() : "";
+        if (uri.isEmpty()) {
+            throw new WebApiException("Live feed of camera " + cameraId + " not available");
+        }
+        return apiLiveUri.openMjpegStream(uri, listener);
+    }
+
     /**
      * @return the cameraId
      */
@@ -390,6 +676,60 @@ public class SynoCameraHandler extends BaseThingHandler implements SynoHandler {
         return apiHandler;
     }
 
+    /**
+     * @return if any of the event channels is linked
+     */
+    public boolean isEventLinked() {
+        return ((SynoApiThreadEvent) threads.get(SynoApiThread.THREAD_EVENT)).isEventLinked();
+    }
+
+    /**
+     * @return if any of the live URI channels is linked
+     */
+    public boolean isLiveUriLinked() {
+        return ((SynoApiThreadLiveUri) threads.get(SynoApiThread.THREAD_LIVEURI)).isLiveUriLinked();
+    }
+
+    /**
+     * Updates the live URI channels from the bridge tick
+     *
+     * @param response Live URI response of this camera
+     * @return if successful
+     * @throws WebApiException
+     */
+    public boolean updateLiveUri(LiveUriResponse response) throws WebApiException {
+        return ((SynoApiThreadLiveUri) threads.get(SynoApiThread.THREAD_LIVEURI)).update(response);
+    }
+
+    /**
+     * Updates the event channels from an event poll of the bridge
+     *
+     * @param response Successful response of a station-wide event poll
+     * @param cursor Event cursor of the station-wide event poll
+     */
+    public void updateEvents(EventResponse response, SynoEventCursor cursor) {
+        ((SynoApiThreadEvent) threads.get(SynoApiThread.THREAD_EVENT)).update(response, cursor);
+    }
+
+    /**
+     * @param response Response of a station-wide event poll
+     * @return if the response contains an event of each reason with a linked channel of this camera
+     */
+    public boolean hasLinkedEvents(EventResponse response) {
+        return ((SynoApiThreadEvent) threads.get(SynoApiThread.THREAD_EVENT))
+                .hasLinkedReasons(response.getEvents(cameraId));
+    }
+
+    /**
+     * Updates an event channel from an event pushed by the Station
+     *
+     * @param reason Event reason
+     * @param completed if the event has been completed
+     */
+    public void pushEvent(int reason, boolean completed) {
+        ((SynoApiThreadEvent) threads.get(SynoApiThread.THREAD_EVENT)).push(reason, completed);
+    }
+
     /**
      * load and update options for presets
      *
@@ -16,6 +16,7 @@ import java.util.concurrent.ScheduledExecutorService;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.synologysurveillancestation.internal.thread.SynoPollScheduler;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoWebApiHandler;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
 
@@ -30,6 +31,8 @@ public interface SynoHandler {
 
     public ScheduledExecutorService getScheduler();
 
+    public @Nullable SynoPollScheduler getPollScheduler();
+
     public @Nullable SynoWebApiHandler getSynoWebApiHandler();
 
     public boolean reconnect(boolean forceLogout) throws WebApiException;
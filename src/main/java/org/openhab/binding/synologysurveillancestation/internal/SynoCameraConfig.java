@@ -24,10 +24,16 @@ import org.eclipse.jdt.annotation.Nullable;
  */
 @NonNullByDefault
 public class SynoCameraConfig {
+    public static final String SNAPSHOT_MODE_POLL = "poll";
+    public static final String SNAPSHOT_MODE_MJPEG = "mjpeg";
+
     private int refreshRateSnapshot = 10;
     private int refreshRateEvents = 3;
     private int refreshRateMdParam = 0;
     private int snapshotStreamId = 1;
+    private boolean snapshotDeduplication = true;
+    private String snapshotMode = SNAPSHOT_MODE_POLL;
+    private int mjpegFrameInterval = 500;
 
     /**
      * @return refreshRateSnapshot the refreshRateSnapshot to set
@@ -85,9 +91,59 @@ public class SynoCameraConfig {
         return snapshotStreamId;
     }
 
+    /**
+     * @param snapshotDeduplication the snapshotDeduplication to set
+     */
+    public void setSnapshotDeduplication(boolean snapshotDeduplication) {
+        this.snapshotDeduplication = snapshotDeduplication;
+    }
+
+    /**
+     * @return if unchanged snapshots are not updated
+     */
+    public boolean isSnapshotDeduplication() {
+        return snapshotDeduplication;
+    }
+
+    /**
+     * @param snapshotMode the snapshotMode to set
+     */
+    public void setSnapshotMode(String snapshotMode) {
+        this.snapshotMode = snapshotMode;
+    }
+
+    /**
+     * @return snapshotMode
+     */
+    public String getSnapshotMode() {
+        return snapshotMode;
+    }
+
+    /**
+     * @return if snapshots are taken from the MJPEG live feed
+     */
+    public boolean isSnapshotMjpeg() {
+        return SNAPSHOT_MODE_MJPEG.equals(snapshotMode);
+    }
+
+    /**
+     * @param mjpegFrameInterval the mjpegFrameInterval to set
+     */
+    public void setMjpegFrameInterval(int mjpegFrameInterval) {
+        this.mjpegFrameInterval = mjpegFrameInterval;
+    }
+
+    /**
+     * @return mjpegFrameInterval
+     */
+    public int getMjpegFrameInterval() {
+        return mjpegFrameInterval;
+    }
+
     @Override
     public int hashCode() {
-        return Objects.hash(refreshRateEvents, refreshRateMdParam, refreshRateSnapshot, snapshotStreamId);
+        return Objects.hash(refreshRateEvents, refreshRateMdParam, refreshRateSnapshot, snapshotStreamId,
+                snapshotDeduplication, snapshotMode, mjpegFrameInterval);
     }
 
     @Override
@@ -103,13 +159,16 @@ public class SynoCameraConfig {
         }
         SynoCameraConfig other = (SynoCameraConfig) obj;
         return refreshRateEvents == other.refreshRateEvents && refreshRateMdParam == other.refreshRateMdParam
-                && refreshRateSnapshot == other.refreshRateSnapshot && snapshotStreamId == other.snapshotStreamId;
+                && refreshRateSnapshot == other.refreshRateSnapshot && snapshotStreamId == other.snapshotStreamId
+                && snapshotDeduplication == other.snapshotDeduplication && snapshotMode.equals(other.snapshotMode)
+                && mjpegFrameInterval == other.mjpegFrameInterval;
     }
 
     @Override
     public String toString() {
         return "SynoCameraConfig [refreshRateSnapshot=" + refreshRateSnapshot + ", refreshRateEvents="
                 + refreshRateEvents + ", refreshRateMdParam=" + refreshRateMdParam + ", snapshotStreamId="
-                + snapshotStreamId + "]";
+                + snapshotStreamId + ", snapshotDeduplication=" + snapshotDeduplication + ", snapshotMode="
+                + snapshotMode + ", mjpegFrameInterval=" + mjpegFrameInterval + "]";
     }
 }
@@ -30,6 +30,11 @@ public class SynoConfig {
     private String username = "";
     private String password = "";
     private int refreshRateEvents = 5;
+    private int refreshRateReconcile = 60;
+    private int maxRequests = 4;
+    private boolean virtualThreads = false;
+    private String accessToken = "";
+    private String readToken = "";
 
     /**
      * Returns the protocol.
@@ -92,11 +97,48 @@ public class SynoConfig {
         return refreshRateEvents;
     }
 
+    /**
+     * @return the refreshRateReconcile
+     */
+    public int getRefreshRateReconcile() {
+        return refreshRateReconcile;
+    }
+
+    /**
+     * @return the maximum number of concurrent requests to the Station
+     */
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+
+    /**
+     * @return if refresh jobs and commands run on virtual threads
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * @return the access token required by the servlets of the bridge
+     */
+    public String getAccessToken() {
+        return accessToken;
+    }
+
+    /**
+     * @return the token granting read-only access to the snapshot and live feed servlets of the bridge
+     */
+    public String getReadToken() {
+        return readToken;
+    }
+
     @Override
     public String toString() {
         return "Config [protocol=" + protocol + ", acceptSsl=" + acceptSsl + ", host=" + host + ", port=" + port
                 + ", username=" + username + ", password=" + "********, refreshRateEvents="
-                + String.valueOf(refreshRateEvents) + "]";
+                + String.valueOf(refreshRateEvents) + ", refreshRateReconcile=" + String.valueOf(refreshRateReconcile)
+                + ", maxRequests=" + String.valueOf(maxRequests) + ", virtualThreads=" + virtualThreads
+                + ", accessToken=********, readToken=********]";
     }
 
     @Override
@@ -111,7 +153,10 @@ public class SynoConfig {
         return cfg.getHost().equals(getHost()) && cfg.getPassword().equals(getPassword())
                 && cfg.isAcceptSsl() == isAcceptSsl() && cfg.getProtocol().equals(getProtocol())
                 && cfg.getPort() == port && cfg.getUsername().equals(getUsername())
-                && cfg.getRefreshRateEvents() == refreshRateEvents;
+                && cfg.getRefreshRateEvents() == refreshRateEvents
+                && cfg.getRefreshRateReconcile() == refreshRateReconcile && cfg.getMaxRequests() == maxRequests
+                && cfg.isVirtualThreads() == virtualThreads && cfg.getAccessToken().equals(accessToken)
+                && cfg.getReadToken().equals(readToken);
     }
 
     /**
@@ -130,7 +175,8 @@ public class SynoConfig {
         SynoConfig cfg = (SynoConfig) obj;
         return cfg.getHost().equals(getHost()) && cfg.getPassword().equals(getPassword())
                 && cfg.isAcceptSsl() == isAcceptSsl() && cfg.getProtocol().equals(getProtocol())
-                && cfg.getPort() == port && cfg.getUsername().equals(getUsername());
+                && cfg.getPort() == port && cfg.getUsername().equals(getUsername())
+                && cfg.isVirtualThreads() == virtualThreads;
     }
 
     /**
@@ -181,4 +227,39 @@ public class SynoConfig {
     public void setRefreshRateEvents(int refreshRateEvents) {
         this.refreshRateEvents = refreshRateEvents;
     }
+
+    /**
+     * @param refreshRateReconcile the refreshRateReconcile to set
+     */
+    public void setRefreshRateReconcile(int refreshRateReconcile) {
+        this.refreshRateReconcile = refreshRateReconcile;
+    }
+
+    /**
+     * @param maxRequests the maxRequests to set
+     */
+    public void setMaxRequests(int maxRequests) {
+        this.maxRequests = maxRequests;
+    }
+
+    /**
+     * @param virtualThreads the virtualThreads to set
+     */
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * @param accessToken the accessToken to set
+     */
+    public void setAccessToken(String accessToken) {
+        this.accessToken = accessToken;
+    }
+
+    /**
+     * @param readToken the readToken to set
+     */
+    public void setReadToken(String readToken) {
+        this.readToken = readToken;
+    }
 }
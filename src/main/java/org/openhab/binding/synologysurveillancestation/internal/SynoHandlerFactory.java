@@ -41,6 +41,7 @@ import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
 import org.osgi.service.component.annotations.Deactivate;
 import org.osgi.service.component.annotations.Reference;
+import org.osgi.service.http.HttpService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -62,6 +63,7 @@ public class SynoHandlerFactory extends BaseThingHandlerFactory {
     private SynoBridgeHandler bridgeHandler = null;
 
     private SynoDynamicStateDescriptionProvider stateDescriptionProvider;
+    private HttpService httpService;
 
     @Reference
     protected void setHttpClientFactory(HttpClientFactory httpClientFactory) {
@@ -132,7 +134,7 @@ public class SynoHandlerFactory extends BaseThingHandlerFactory {
                     this.acceptSsl = false;
                 }
             }
-            bridgeHandler = new SynoBridgeHandler((Bridge) thing, httpClient);
+            bridgeHandler = new SynoBridgeHandler((Bridge) thing, httpClient, httpService);
             CameraDiscoveryService discoveryService = new CameraDiscoveryService(bridgeHandler);
             bridgeHandler.setDiscovery(discoveryService);
             this.discoveryServiceRegs.put(thing.getUID(), bundleContext.registerService(
@@ -167,4 +169,13 @@ public class SynoHandlerFactory extends BaseThingHandlerFactory {
     protected void unsetDynamicStateDescriptionProvider(SynoDynamicStateDescriptionProvider stateDescriptionProvider) {
         this.stateDescriptionProvider = null;
     }
+
+    @Reference
+    protected void setHttpService(HttpService httpService) {
+        this.httpService = httpService;
+    }
+
+    protected void unsetHttpService(HttpService httpService) {
+        this.httpService = null;
+    }
 }
@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.servlet;
+
+import java.io.IOException;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.synologysurveillancestation.handler.SynoBridgeHandler;
+import org.openhab.binding.synologysurveillancestation.handler.SynoCameraHandler;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link SynoEventServlet} receives events pushed by Surveillance Station Action Rules (action "Webhook" or
+ * "HTTP request") and feeds them into the event channels of the corresponding camera.
+ *
+ * Parameters (query string or form data):
+ * - camera: camera ID
+ * - event: event type (motion, alarm, manual, continuous, external, actionrule) or numeric event reason
+ * - state: ON (default) for a started event, OFF for a completed event
+ * - token: access token of the bridge
+ *
+ * @author Pavion - Initial contribution
+ */
+@NonNullByDefault
+public class SynoEventServlet extends SynoServlet {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String SERVLET_PATH = "/event";
+
+    private final Logger logger = LoggerFactory.getLogger(SynoEventServlet.class);
+
+    /**
+     * @param bridgeHandler Bridge handler of the cameras to be updated
+     */
+    public SynoEventServlet(SynoBridgeHandler bridgeHandler) {
+        super(bridgeHandler);
+    }
+
+    @Override
+    protected void doGet(@Nullable HttpServletRequest req, @Nullable HttpServletResponse resp) throws IOException {
+        handleEvent(req, resp);
+    }
+
+    @Override
+    protected void doPost(@Nullable HttpServletRequest req, @Nullable HttpServletResponse resp) throws IOException {
+        handleEvent(req, resp);
+    }
+
+    /**
+     * Handles a pushed event
+     *
+     * @param req
+     * @param resp
+     * @throws IOException
+     */
+    private void handleEvent(@Nullable HttpServletRequest req, @Nullable HttpServletResponse resp)
+            throws IOException {
+        if (req == null || resp == null || !authorize(req, resp)) {
+            return;
+        }
+        String cameraId = req.getParameter("camera");
+        String eventType = req.getParameter("event");
+        String state = req.getParameter("state");
+
+        int reason = eventType == null ? 0 : SynoEvent.reasonOf(eventType);
+        if (cameraId == null || reason == 0) {
+            logger.debug("Pushed event rejected: camera {}, event {}", cameraId, eventType);
+            resp.sendError(HttpServletResponse.SC_BAD_REQUEST, "Parameters 'camera' and 'event' are required");
+            return;
+        }
+        boolean completed = "OFF".equalsIgnoreCase(state);
+
+        for (SynoCameraHandler camera : bridgeHandler.getCameraHandlers()) {
+            if (camera.getCameraId().equals(cameraId)) {
+                logger.debug("Pushed event: camera {}, reason {}, completed {}", cameraId, reason, completed);
+                camera.pushEvent(reason, completed);
+                bridgeHandler.pushReceived(cameraId);
+                resp.setContentType("text/plain");
+                resp.getWriter().write("OK");
+                return;
+            }
+        }
+        resp.sendError(HttpServletResponse.SC_NOT_FOUND, "Unknown camera " + cameraId);
+    }
+}
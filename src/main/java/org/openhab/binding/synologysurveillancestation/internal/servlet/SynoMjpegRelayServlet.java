@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.servlet;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.synologysurveillancestation.handler.SynoBridgeHandler;
+import org.openhab.binding.synologysurveillancestation.handler.SynoCameraHandler;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoMjpegRelay;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoSnapshot;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link SynoMjpegRelayServlet} relays the MJPEG live feed of a camera to any number of clients over a single
+ * connection to Surveillance Station. Frames are written with non-blocking I/O, so clients hold no request thread.
+ *
+ * Path: {@value #SERVLET_PATH}/camera ID?token=read token
+ *
+ * @author Pavion - Initial contribution
+ */
+@NonNullByDefault
+public class SynoMjpegRelayServlet extends SynoServlet {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String SERVLET_PATH = "/mjpeg";
+
+    private static final String BOUNDARY = "openhabframe";
+    private static final byte[] CRLF = { '\r', '\n' };
+
+    private final Logger logger = LoggerFactory.getLogger(SynoMjpegRelayServlet.class);
+
+    /**
+     * @param bridgeHandler Bridge handler of the cameras to be relayed
+     */
+    public SynoMjpegRelayServlet(SynoBridgeHandler bridgeHandler) {
+        super(bridgeHandler);
+    }
+
+    @Override
+    protected boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    protected void doGet(@Nullable HttpServletRequest req, @Nullable HttpServletResponse resp) throws IOException {
+        if (req == null || resp == null || !authorize(req, resp)) {
+            return;
+        }
+        String pathInfo = req.getPathInfo();
+        String cameraId = pathInfo == null ? "" : pathInfo.replace("/", "");
+        SynoCameraHandler camera = getCamera(cameraId);
+        if (camera == null) {
+            resp.sendError(HttpServletResponse.SC_NOT_FOUND, "Unknown camera " + cameraId);
+            return;
+        }
+
+        SynoMjpegRelay relay = camera.getLiveFeed();
+        Client client = new Client(relay);
+        try {
+            relay.connect(client);
+        } catch (WebApiException e) {
+            logger.debug("Camera {}: live feed not available: {}", cameraId, e.getMessage());
+            resp.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE, "Live feed not available");
+            return;
+        }
+
+        resp.setContentType("multipart/x-mixed-replace; boundary=" + BOUNDARY);
+        resp.setHeader("Cache-Control", "no-cache");
+        try {
+            AsyncContext context = req.startAsync();
+            context.setTimeout(0);
+            client.start(context, resp.getOutputStream());
+        } catch (IllegalStateException e) {
+            relay.disconnect(client);
+            throw e;
+        }
+    }
+
+    /**
+     * @param cameraId
+     * @return the handler of the online camera or null if not found
+     */
+    private @Nullable SynoCameraHandler getCamera(String cameraId) {
+        for (SynoCameraHandler camera : bridgeHandler.getCameraHandlers()) {
+            if (camera.getCameraId().equals(cameraId)) {
+                return camera;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * A client of the live feed. It holds the frame being written and only the newest frame not yet started, so a
+     * slow client drops older frames instead of slowing down the others.
+     */
+    private static class Client implements SynoMjpegRelay.Client, WriteListener, AsyncListener {
+        private final SynoMjpegRelay relay;
+        private @Nullable AsyncContext context;
+        private @Nullable ServletOutputStream out;
+        private byte @Nullable [] next; // Newest frame not yet started
+        private byte[][] parts = new byte[0][]; // Headers, content and trailer of the frame being written
+        private int part = 0;
+        private boolean flush = false;
+        private boolean writable = false; // Set once the container is ready for non-blocking writes
+        private boolean closed = false;
+        private long dropped = 0;
+
+        private Client(SynoMjpegRelay relay) {
+            this.relay = relay;
+        }
+
+        /**
+         * Starts writing to the client
+         *
+         * @param context
+         * @param out
+         */
+        private void start(AsyncContext context, ServletOutputStream out) {
+            synchronized (this) {
+                this.context = context;
+                this.out = out;
+                if (closed) {
+                    context.complete();
+                    return;
+                }
+            }
+            context.addListener(this);
+            out.setWriteListener(this);
+        }
+
+        @Override
+        public void offer(byte[] frame) {
+            boolean ok;
+            synchronized (this) {
+                if (next != null) {
+                    dropped++;
+                }
+                next = frame;
+                ok = write();
+            }
+            if (!ok) {
+                relay.disconnect(this);
+            }
+        }
+
+        @Override
+        public synchronized void close() {
+            if (!closed) {
+                closed = true;
+                AsyncContext current = context;
+                if (current != null) {
+                    try {
+                        current.complete();
+                    } catch (IllegalStateException e) {
+                        // Already completed by the container
+                    }
+                }
+            }
+        }
+
+        @Override
+        public void onWritePossible() {
+            boolean ok;
+            synchronized (this) {
+                writable = true;
+                ok = write();
+            }
+            if (!ok) {
+                relay.disconnect(this);
+            }
+        }
+
+        @Override
+        public void onError(@Nullable Throwable t) {
+            relay.disconnect(this);
+        }
+
+        @Override
+        public void onComplete(@Nullable AsyncEvent event) {
+            synchronized (this) {
+                closed = true;
+            }
+            relay.disconnect(this);
+        }
+
+        @Override
+        public void onTimeout(@Nullable AsyncEvent event) {
+            relay.disconnect(this);
+        }
+
+        @Override
+        public void onError(@Nullable AsyncEvent event) {
+            relay.disconnect(this);
+        }
+
+        @Override
+        public void onStartAsync(@Nullable AsyncEvent event) {
+        }
+
+        /**
+         * Writes as long as the output accepts data without blocking, the container calls
+         * {@link #onWritePossible()} once it accepts data again
+         *
+         * @return false if the client is gone
+         */
+        private boolean write() {
+            ServletOutputStream current = out;
+            if (!writable || closed || current == null) {
+                return true;
+            }
+            try {
+                while (current.isReady()) {
+                    if (part < parts.length) {
+                        current.write(parts[part++]);
+                    } else if (flush) {
+                        flush = false;
+                        current.flush();
+                    } else {
+                        byte[] frame = next;
+                        if (frame == null) {
+                            return true;
+                        }
+                        next = null;
+                        String headers = "--" + BOUNDARY + "\r\nContent-Type: " + SynoSnapshot.CONTENT_TYPE
+                                + "\r\nContent-Length: " + frame.length + "\r\n\r\n";
+                        parts = new byte[][] { headers.getBytes(StandardCharsets.US_ASCII), frame, CRLF };
+                        part = 0;
+                        flush = true;
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Client gone
+                writable = false;
+                return false;
+            }
+            return true;
+        }
+
+        @Override
+        public synchronized String toString() {
+            return "with " + dropped + " frames dropped";
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.servlet;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.synologysurveillancestation.handler.SynoBridgeHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link SynoServlet} is the base of the servlets of a bridge. Servlets registered with the HTTP service are not
+ * protected by openHAB, so every request has to carry the access token of the bridge, either as parameter
+ * {@value #PARAM_TOKEN} or as bearer token in the Authorization header. Read-only servlets also accept the read
+ * token of the bridge, which is published in channel states instead of the access token.
+ *
+ * @author Pavion - Initial contribution
+ */
+@NonNullByDefault
+public abstract class SynoServlet extends HttpServlet {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String PARAM_TOKEN = "token";
+
+    private static final String BEARER = "Bearer ";
+
+    private final Logger logger = LoggerFactory.getLogger(SynoServlet.class);
+    protected final SynoBridgeHandler bridgeHandler;
+
+    /**
+     * @param bridgeHandler Bridge handler of the cameras to be served
+     */
+    protected SynoServlet(SynoBridgeHandler bridgeHandler) {
+        this.bridgeHandler = bridgeHandler;
+    }
+
+    /**
+     * @return if the servlet only serves data and accepts the read token of the bridge as well
+     */
+    protected boolean isReadOnly() {
+        return false;
+    }
+
+    /**
+     * Checks the token of a request, a request without valid token is answered with 403 Forbidden
+     *
+     * @param req
+     * @param resp
+     * @return if the request is authorized
+     * @throws IOException
+     */
+    protected boolean authorize(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        String token = req.getParameter(PARAM_TOKEN);
+        if (token == null) {
+            String authorization = req.getHeader("Authorization");
+            if (authorization != null && authorization.startsWith(BEARER)) {
+                token = authorization.substring(BEARER.length()).trim();
+            }
+        }
+        if (token == null || !(matches(bridgeHandler.getAccessToken(), token)
+                || (isReadOnly() && matches(bridgeHandler.getReadToken(), token)))) {
+            logger.debug("Request to {} from {} rejected: invalid token", req.getRequestURI(),
+                    req.getRemoteAddr());
+            resp.sendError(HttpServletResponse.SC_FORBIDDEN, "Invalid token");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Compares the tokens in constant time
+     *
+     * @param expected Token of the bridge, empty if not yet created
+     * @param token Token of the request
+     * @return if the tokens match
+     */
+    private static boolean matches(String expected, String token) {
+        return !expected.isEmpty() && MessageDigest.isEqual(expected.getBytes(StandardCharsets.UTF_8),
+                token.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.servlet;
+
+import java.io.IOException;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.synologysurveillancestation.handler.SynoBridgeHandler;
+import org.openhab.binding.synologysurveillancestation.handler.SynoCameraHandler;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoSnapshot;
+
+/**
+ * The {@link SynoSnapshotServlet} serves the latest snapshot of a camera held in memory, so that dashboards fetch
+ * images on demand instead of receiving them through the event bus. Clients revalidate with the entity tag.
+ *
+ * Path: {@value #SERVLET_PATH}/camera ID?token=read token
+ *
+ * @author Pavion - Initial contribution
+ */
+@NonNullByDefault
+public class SynoSnapshotServlet extends SynoServlet {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final String SERVLET_PATH = "/snapshot";
+
+    /**
+     * @param bridgeHandler Bridge handler of the cameras to be served
+     */
+    public SynoSnapshotServlet(SynoBridgeHandler bridgeHandler) {
+        super(bridgeHandler);
+    }
+
+    @Override
+    protected boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    protected void doGet(@Nullable HttpServletRequest req, @Nullable HttpServletResponse resp) throws IOException {
+        if (req == null || resp == null || !authorize(req, resp)) {
+            return;
+        }
+        String pathInfo = req.getPathInfo();
+        String cameraId = pathInfo == null ? "" : pathInfo.replace("/", "");
+
+        SynoSnapshot snapshot = null;
+        for (SynoCameraHandler camera : bridgeHandler.getCameraHandlers()) {
+            if (camera.getCameraId().equals(cameraId)) {
+                snapshot = camera.getSnapshot();
+                break;
+            }
+        }
+        if (snapshot == null) {
+            resp.sendError(HttpServletResponse.SC_NOT_FOUND, "No snapshot of camera " + cameraId);
+            return;
+        }
+
+        String etag = "\"" + snapshot.getEtag() + "\"";
+        resp.setHeader("ETag", etag);
+        resp.setHeader("Cache-Control", "no-cache");
+        String ifNoneMatch = req.getHeader("If-None-Match");
+        if (ifNoneMatch != null && (ifNoneMatch.contains(etag) || "*".equals(ifNoneMatch.trim()))) {
+            resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+        byte[] content = snapshot.getContent();
+        resp.setContentType(SynoSnapshot.CONTENT_TYPE);
+        resp.setContentLength(content.length);
+        resp.getOutputStream().write(content);
+    }
+}
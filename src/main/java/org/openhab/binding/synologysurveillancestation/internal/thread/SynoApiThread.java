@@ -12,10 +12,16 @@
  */
 package org.openhab.binding.synologysurveillancestation.internal.thread;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.TimeoutException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
@@ -24,6 +30,7 @@ import org.openhab.binding.synologysurveillancestation.handler.SynoCameraHandler
 import org.openhab.binding.synologysurveillancestation.handler.SynoHandler;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.error.WebApiAuthErrorCodes;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiBatch;
 import org.openhab.core.thing.ThingStatus;
 import org.openhab.core.thing.ThingStatusDetail;
 import org.openhab.core.thing.binding.BaseThingHandler;
@@ -48,9 +55,19 @@ public abstract class SynoApiThread<T extends BaseThingHandler & SynoHandler> {
     public static final String THREAD_HOMEMODE = "HomeMode";
     public static final String THREAD_LIVEURI = "LiveUri";
     public static final String THREAD_CAMERAEVENT = "CameraEvent";
+    public static final String THREAD_CAMERALIST = "CameraList";
+    public static final String THREAD_STATIONEVENT = "StationEvent";
+    public static final String THREAD_STATIONLIVEURI = "StationLiveUri";
+    public static final String THREAD_STATION = "Station";
 
-    private final AtomicBoolean refreshInProgress = new AtomicBoolean(false);
+    // Maximum time to wait for a refresh in progress when stopping threads (ms)
+    private static final long STOP_TIMEOUT = 5000;
+
+    private boolean refreshInProgress = false;
+    private CompletableFuture<Void> refreshDone = CompletableFuture.completedFuture(null);
     private @Nullable ScheduledFuture<?> future;
+    private SynoPollScheduler.@Nullable Job job;
+    private volatile boolean active = false; // if started and not stopped
     private int refreshRate; // Refresh rate in seconds
     private final T synoHandler; // Bridge or Camera Thing handler
     private final String name; // Thread name / type
@@ -62,15 +79,26 @@ public abstract class SynoApiThread<T extends BaseThingHandler & SynoHandler> {
     private Runnable runnable = new Runnable() {
         @Override
         public void run() {
-            try {
-                if (refreshInProgress.compareAndSet(false, true)) {
-                    runOnce();
-                    refreshInProgress.set(false);
+            CompletableFuture<Void> done;
+            synchronized (SynoApiThread.this) {
+                if (refreshInProgress || !active) {
+                    return;
                 }
+                refreshInProgress = true;
+                done = new CompletableFuture<>();
+                refreshDone = done;
+            }
+            try {
+                runOnce();
             } catch (IllegalStateException e) {
                 logger.debug("Thread {}: Refreshing Thing failed, handler might be OFFLINE", name);
             } catch (Exception e) {
                 logger.error("Thread {}: Unknown error", name, e);
+            } finally {
+                synchronized (SynoApiThread.this) {
+                    refreshInProgress = false;
+                }
+                done.complete(null);
             }
         }
     };
@@ -90,13 +118,21 @@ public abstract class SynoApiThread<T extends BaseThingHandler & SynoHandler> {
     }
 
     /**
-     * Starts the refresh job
+     * Starts the refresh job, unless already started. A job dropped by a stopped poll scheduler is scheduled again.
      */
-    public void start() {
-        if (refreshRate > 0) {
+    public synchronized void start() {
+        active = true;
+        SynoPollScheduler.Job current = job;
+        if (current != null && current.isCancelled()) {
+            job = null;
+        }
+        if (refreshRate > 0 && job == null && future == null) {
+            SynoPollScheduler pollScheduler = synoHandler.getPollScheduler();
             ScheduledExecutorService scheduler = synoHandler.getScheduler();
 
-            if (scheduler != null) {
+            if (pollScheduler != null) {
+                job = pollScheduler.schedule(deviceId + "/" + name, runnable, refreshRate);
+            } else if (scheduler != null) {
                 if (this.name == THREAD_SNAPSHOT) {
                     future = scheduler.scheduleAtFixedRate(runnable, 0, refreshRate, TimeUnit.SECONDS);
                 } else {
@@ -107,15 +143,56 @@ public abstract class SynoApiThread<T extends BaseThingHandler & SynoHandler> {
     }
 
     /**
-     * Stops the refresh job
+     * @return if the refresh job has been started and not stopped
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Stops the refresh job without waiting for a refresh in progress
      */
     public void stop() {
-        if (future != null) {
-            future.cancel(false);
-            try {
-                Thread.sleep(1000);
-            } catch (InterruptedException e) {
-            }
+        stopAsync();
+    }
+
+    /**
+     * Stops the refresh job
+     *
+     * @return future completed as soon as a refresh in progress has finished
+     */
+    public synchronized CompletableFuture<Void> stopAsync() {
+        active = false;
+        SynoPollScheduler.Job scheduledJob = job;
+        if (scheduledJob != null) {
+            scheduledJob.cancel();
+            job = null;
+        }
+        ScheduledFuture<?> scheduledFuture = future;
+        if (scheduledFuture != null) {
+            scheduledFuture.cancel(false);
+            future = null;
+        }
+        return refreshInProgress ? refreshDone : CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Stops several threads at once and waits until none of them is refreshing anymore
+     *
+     * @param threads Threads to be stopped
+     */
+    public static void stopAll(Collection<? extends SynoApiThread<?>> threads) {
+        List<CompletableFuture<Void>> stopped = new ArrayList<>();
+        for (SynoApiThread<?> thread : threads) {
+            stopped.add(thread.stopAsync());
+        }
+        try {
+            CompletableFuture.allOf(stopped.toArray(new CompletableFuture<?>[0])).get(STOP_TIMEOUT,
+                    TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            LoggerFactory.getLogger(SynoApiThread.class).debug("Threads still refreshing after {} ms", STOP_TIMEOUT);
         }
     }
 
@@ -124,6 +201,43 @@ public abstract class SynoApiThread<T extends BaseThingHandler & SynoHandler> {
      */
     public abstract boolean refresh() throws Exception;
 
+    /**
+     * Adds the requests of a refresh to a batch, for threads refreshed as part of a batched tick
+     *
+     * @param batch Batch to be executed by the caller
+     * @return future completed with the refresh result or null if batching is not supported by this thread
+     */
+    public @Nullable CompletableFuture<Boolean> refresh(SynoApiBatch.Batch batch) {
+        return null;
+    }
+
+    /**
+     * Handler of an asynchronous response
+     *
+     * @param <R> Response type
+     */
+    @FunctionalInterface
+    protected interface ResponseHandler<R> {
+        boolean update(R response) throws WebApiException;
+    }
+
+    /**
+     * Applies a handler to an asynchronous response
+     *
+     * @param future Future of the response
+     * @param handler Handler of the response
+     * @return future completed with the handler result
+     */
+    protected static <R> CompletableFuture<Boolean> handle(CompletableFuture<R> future, ResponseHandler<R> handler) {
+        return future.thenApply(response -> {
+            try {
+                return handler.update(response);
+            } catch (WebApiException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
     /**
      * Run the runnable just once (for manual refresh)
      */
@@ -196,8 +310,11 @@ public abstract class SynoApiThread<T extends BaseThingHandler & SynoHandler> {
     public void setRefreshRate(int refreshRate) {
         if (this.refreshRate != refreshRate) {
             this.refreshRate = refreshRate;
+            boolean restart = active;
             stop();
-            start();
+            if (restart) {
+                start();
+            }
         }
     }
 
@@ -15,6 +15,7 @@ package org.openhab.binding.synologysurveillancestation.internal.thread;
 import static org.openhab.binding.synologysurveillancestation.SynoBindingConstants.*;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.synologysurveillancestation.handler.SynoBridgeHandler;
 import org.openhab.binding.synologysurveillancestation.handler.SynoCameraHandler;
 import org.openhab.binding.synologysurveillancestation.internal.SynoCameraConfig;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
@@ -22,6 +23,7 @@ import org.openhab.binding.synologysurveillancestation.internal.webapi.error.Web
 import org.openhab.binding.synologysurveillancestation.internal.webapi.response.CameraResponse;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.library.types.StringType;
+import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.Channel;
 
 /**
@@ -73,7 +75,15 @@ public class SynoApiThreadCamera extends SynoApiThread<SynoCameraHandler> {
         }
 
         if (cameraHandler.isLinked(CHANNEL_ENABLE) || cameraHandler.isLinked(CHANNEL_RECORD)) {
-            CameraResponse response = cameraHandler.getSynoWebApiHandler().getApiCamera().getInfo(cameraId);
+            // Prefer the camera list polled by the bridge, fall back to a single request otherwise
+            CameraResponse response = null;
+            Bridge bridge = cameraHandler.getBridge();
+            if (bridge != null && bridge.getHandler() instanceof SynoBridgeHandler) {
+                response = ((SynoBridgeHandler) bridge.getHandler()).getCameraStates();
+            }
+            if (response == null || !response.hasCamera(cameraId)) {
+                response = cameraHandler.getSynoWebApiHandler().getApiCamera().getInfo(cameraId);
+            }
             if (response.isSuccess()) {
                 if (cameraHandler.isLinked(CHANNEL_ENABLE)) {
                     Channel channel = cameraHandler.getThing().getChannel(CHANNEL_ENABLE);
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.thread;
+
+import static org.openhab.binding.synologysurveillancestation.SynoBindingConstants.*;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.synologysurveillancestation.handler.SynoBridgeHandler;
+import org.openhab.binding.synologysurveillancestation.handler.SynoCameraHandler;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiBatch;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.response.CameraResponse;
+
+/**
+ * Thread for getting the state (enabled, recording) of all cameras with a single request
+ *
+ * @author Pavion - Initial contribution
+ */
+@NonNullByDefault
+public class SynoApiThreadCameraList extends SynoApiThread<SynoBridgeHandler> {
+
+    public SynoApiThreadCameraList(SynoBridgeHandler handler, int refreshRate) {
+        super(SynoApiThread.THREAD_CAMERALIST, handler, refreshRate);
+    }
+
+    @Override
+    public boolean isNeeded() {
+        for (SynoCameraHandler cameraHandler : getSynoHandler().getCameraHandlers()) {
+            if (cameraHandler.isLinked(CHANNEL_ENABLE) || cameraHandler.isLinked(CHANNEL_RECORD)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean refresh() throws Exception {
+        SynoBridgeHandler bridgeHandler = getSynoHandler();
+        CameraResponse response = bridgeHandler.getSynoWebApiHandler().getApiCamera().listCameras();
+        bridgeHandler.setCameraStates(response);
+        return true;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> refresh(SynoApiBatch.Batch batch) {
+        SynoBridgeHandler bridgeHandler = getSynoHandler();
+        return handle(bridgeHandler.getSynoWebApiHandler().getApiCamera().listCameras(batch), response -> {
+            bridgeHandler.setCameraStates(response);
+            return true;
+        });
+    }
+}
@@ -14,17 +14,25 @@ package org.openhab.binding.synologysurveillancestation.internal.thread;
 
 import static org.openhab.binding.synologysurveillancestation.SynoBindingConstants.*;
 
-import java.time.ZonedDateTime;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.synologysurveillancestation.handler.SynoBridgeHandler;
 import org.openhab.binding.synologysurveillancestation.handler.SynoCameraHandler;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoEvent;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoEventCursor;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.error.WebApiAuthErrorCodes;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiEvent;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.response.EventResponse;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.response.EventTable;
 import org.openhab.core.library.types.OnOffType;
+import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.Channel;
 
 /**
@@ -36,12 +44,14 @@ import org.openhab.core.thing.Channel;
 public class SynoApiThreadEvent extends SynoApiThread<SynoCameraHandler> {
     // private final Logger logger = LoggerFactory.getLogger(SynoApiThreadEvent.class);
 
-    private long lastEventTime;
+    private final SynoEventCursor cursor;
     private Map<String, SynoEvent> events = new HashMap<>();
+    private final Set<Integer> pushedReasons = new HashSet<>(); // Pushed events not yet seen by a poll
+    private long lastPoll = 0;
 
     public SynoApiThreadEvent(SynoCameraHandler handler, int refreshRate) {
         super(SynoApiThread.THREAD_EVENT, handler, refreshRate);
-        lastEventTime = ZonedDateTime.now().minusSeconds(refreshRate * 2).toEpochSecond();
+        cursor = new SynoEventCursor(refreshRate);
         events.put(CHANNEL_EVENT_MOTION, new SynoEvent(SynoEvent.EVENT_REASON_MOTION));
         events.put(CHANNEL_EVENT_ALARM, new SynoEvent(SynoEvent.EVENT_REASON_ALARM));
         events.put(CHANNEL_EVENT_MANUAL, new SynoEvent(SynoEvent.EVENT_REASON_MANUAL));
@@ -52,6 +62,18 @@ public class SynoApiThreadEvent extends SynoApiThread<SynoCameraHandler> {
 
     @Override
     public boolean isNeeded() {
+        // Events are polled by the bridge for all cameras at once if enabled there
+        SynoBridgeHandler bridgeHandler = getBridgeHandler();
+        if (bridgeHandler != null && bridgeHandler.isStationEventPolling()) {
+            return false;
+        }
+        return isEventLinked();
+    }
+
+    /**
+     * @return if any of the event channels is linked
+     */
+    public boolean isEventLinked() {
         return (getSynoHandler().isLinked(CHANNEL_EVENT_MOTION) || getSynoHandler().isLinked(CHANNEL_EVENT_ALARM)
                 || getSynoHandler().isLinked(CHANNEL_EVENT_MANUAL)
                 || getSynoHandler().isLinked(CHANNEL_EVENT_CONTINUOUS)
@@ -62,43 +84,131 @@ public class SynoApiThreadEvent extends SynoApiThread<SynoCameraHandler> {
     @Override
     public boolean refresh() throws Exception {
         SynoCameraHandler cameraHandler = getSynoHandler();
+        SynoBridgeHandler bridgeHandler = getBridgeHandler();
+        if (bridgeHandler != null && !bridgeHandler.isEventPollDue(cameraHandler.getCameraId(), lastPoll)) {
+            return true;
+        }
+
+        // One request for all reasons, demultiplexed into the event channels below
+        EventResponse response = cameraHandler.getSynoWebApiHandler().getApiEvent().getEventResponse(
+                cameraHandler.getCameraId(), cursor.getTime(), SynoApiEvent.EVENT_LIMIT,
+                r -> hasLinkedReasons(r.getEvents()));
+        if (response.isSuccess()) {
+            update(response, cursor, false);
+            cursor.advance(response, List.of(cameraHandler.getCameraId()));
+            lastPoll = System.currentTimeMillis();
+        } else if (response.getErrorcode() == 105) {
+            throw new WebApiException(WebApiAuthErrorCodes.INSUFFICIENT_USER_PRIVILEGE);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * @param responseEvents Events of this camera in a response
+     * @return if an event of each reason with a linked channel is present
+     */
+    public boolean hasLinkedReasons(EventTable responseEvents) {
+        for (Map.Entry<String, SynoEvent> entry : events.entrySet()) {
+            if (getSynoHandler().isLinked(entry.getKey()) && !responseEvents.hasEvent(entry.getValue().getReason())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Updates the event channels from a response polled for several cameras
+     *
+     * @param response Successful response of a station-wide event poll
+     * @param cursor Event cursor of the station-wide event poll
+     */
+    public void update(EventResponse response, SynoEventCursor cursor) {
+        update(response, cursor, true);
+    }
+
+    /**
+     * Updates an event channel from an event pushed by the Station
+     *
+     * @param reason Event reason
+     * @param completed if the event has been completed
+     */
+    public synchronized void push(int reason, boolean completed) {
+        SynoCameraHandler cameraHandler = getSynoHandler();
+        for (Map.Entry<String, SynoEvent> entry : events.entrySet()) {
+            SynoEvent event = entry.getValue();
+            if (event.getReason() == reason && cameraHandler.isLinked(entry.getKey())) {
+                Channel channel = cameraHandler.getThing().getChannel(entry.getKey());
+                if (!completed && event.isEventCompleted()) {
+                    event.setEventCompleted(false);
+                    pushedReasons.add(reason);
+                    cameraHandler.updateState(channel.getUID(), OnOffType.ON);
+                } else if (completed && !event.isEventCompleted()) {
+                    event.setEventCompleted(true);
+                    cameraHandler.updateState(channel.getUID(), OnOffType.OFF);
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the event channels from an event response. Events already seen and completed are treated like
+     * missing events. A pushed event is matched with the first new event of its reason and is given one poll to
+     * show up in the response.
+     *
+     * @param response Successful event response
+     * @param cursor Event cursor the response was requested with
+     * @param byCamera if the response contains events of several cameras
+     */
+    private synchronized void update(EventResponse response, SynoEventCursor cursor, boolean byCamera) {
+        SynoCameraHandler cameraHandler = getSynoHandler();
+        String cameraId = cameraHandler.getCameraId();
+        EventTable responseEvents = byCamera ? response.getEvents(cameraId) : response.getEvents();
 
         for (String eventType : events.keySet()) {
-            if (getSynoHandler().isLinked(eventType)) {
+            if (cameraHandler.isLinked(eventType)) {
                 Channel channel = cameraHandler.getThing().getChannel(eventType);
                 SynoEvent event = events.get(eventType);
-                EventResponse response = cameraHandler.getSynoWebApiHandler().getApiEvent()
-                        .getEventResponse(cameraHandler.getCameraId(), lastEventTime, event.getReason());
-                if (response.isSuccess()) {
-                    if (!response.isEmpty()) {
-                        SynoEvent responseEvent = response.getFirst();
-                        if (responseEvent.getEventId() != event.getEventId()) {
-                            event.setEventId(responseEvent.getEventId());
-                            event.setEventCompleted(responseEvent.isEventCompleted());
-                            cameraHandler.updateState(channel.getUID(), OnOffType.ON);
-                            if (responseEvent.isEventCompleted()) {
-                                cameraHandler.updateState(channel.getUID(), OnOffType.OFF);
-                            }
-                        } else if (responseEvent.getEventId() == event.getEventId() && responseEvent.isEventCompleted()
-                                && !event.isEventCompleted()) {
+                int reason = event.getReason();
+                long responseId = responseEvents.getEventId(reason);
+                boolean responseCompleted = responseEvents.isEventCompleted(reason);
+                if (responseEvents.hasEvent(reason) && cursor.isNew(cameraId, responseId, responseCompleted)) {
+                    if (responseId != event.getEventId() && pushedReasons.remove(reason)) {
+                        // Already announced by a push, only take over ID and completion
+                        event.setEventId(responseId);
+                        if (responseCompleted && !event.isEventCompleted()) {
                             event.setEventCompleted(true);
                             cameraHandler.updateState(channel.getUID(), OnOffType.OFF);
                         }
-                    } else {
+                    } else if (responseId != event.getEventId()) {
+                        event.setEventId(responseId);
+                        event.setEventCompleted(responseCompleted);
+                        cameraHandler.updateState(channel.getUID(), OnOffType.ON);
+                        if (responseCompleted) {
+                            cameraHandler.updateState(channel.getUID(), OnOffType.OFF);
+                        }
+                    } else if (responseCompleted && !event.isEventCompleted()) {
                         event.setEventCompleted(true);
                         cameraHandler.updateState(channel.getUID(), OnOffType.OFF);
                     }
-                    if (response.getTimestamp() > lastEventTime) {
-                        lastEventTime = response.getTimestamp();
-                    }
-                } else if (response.getErrorcode() == 105) {
-                    throw new WebApiException(WebApiAuthErrorCodes.INSUFFICIENT_USER_PRIVILEGE);
-                } else {
-                    return false;
+                } else if (!pushedReasons.remove(reason)) {
+                    event.setEventCompleted(true);
+                    cameraHandler.updateState(channel.getUID(), OnOffType.OFF);
                 }
             }
         }
-        return true;
+    }
+
+    /**
+     * @return the bridge handler of this camera
+     */
+    private @Nullable SynoBridgeHandler getBridgeHandler() {
+        Bridge bridge = getSynoHandler().getBridge();
+        if (bridge != null && bridge.getHandler() instanceof SynoBridgeHandler) {
+            return (SynoBridgeHandler) bridge.getHandler();
+        }
+        return null;
     }
 
     /**
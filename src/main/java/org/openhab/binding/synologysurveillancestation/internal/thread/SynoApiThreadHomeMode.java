@@ -14,10 +14,13 @@ package org.openhab.binding.synologysurveillancestation.internal.thread;
 
 import static org.openhab.binding.synologysurveillancestation.SynoBindingConstants.CHANNEL_HOMEMODE;
 
+import java.util.concurrent.CompletableFuture;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.openhab.binding.synologysurveillancestation.handler.SynoBridgeHandler;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.error.WebApiAuthErrorCodes;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiBatch;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.response.HomeModeResponse;
 import org.openhab.core.library.types.OnOffType;
 import org.openhab.core.thing.Channel;
@@ -42,8 +45,24 @@ public class SynoApiThreadHomeMode extends SynoApiThread<SynoBridgeHandler> {
 
     @Override
     public boolean refresh() throws Exception {
+        return update(getSynoHandler().getSynoWebApiHandler().getApiHomeMode().getHomeModeResponse());
+    }
+
+    @Override
+    public CompletableFuture<Boolean> refresh(SynoApiBatch.Batch batch) {
+        return handle(getSynoHandler().getSynoWebApiHandler().getApiHomeMode().getHomeModeResponse(batch),
+                this::update);
+    }
+
+    /**
+     * Updates the home mode channel
+     *
+     * @param response
+     * @return if successful
+     * @throws WebApiException
+     */
+    private boolean update(HomeModeResponse response) throws WebApiException {
         SynoBridgeHandler bridgeHandler = getSynoHandler();
-        HomeModeResponse response = bridgeHandler.getSynoWebApiHandler().getApiHomeMode().getHomeModeResponse();
         if (response.isSuccess()) {
             if (getSynoHandler().isLinked(CHANNEL_HOMEMODE)) {
                 Channel channel = bridgeHandler.getThing().getChannel(CHANNEL_HOMEMODE);
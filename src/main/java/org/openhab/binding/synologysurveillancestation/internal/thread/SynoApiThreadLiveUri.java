@@ -15,11 +15,14 @@ package org.openhab.binding.synologysurveillancestation.internal.thread;
 import static org.openhab.binding.synologysurveillancestation.SynoBindingConstants.*;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.synologysurveillancestation.handler.SynoBridgeHandler;
 import org.openhab.binding.synologysurveillancestation.handler.SynoCameraHandler;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.error.WebApiAuthErrorCodes;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.response.LiveUriResponse;
 import org.openhab.core.library.types.StringType;
+import org.openhab.core.thing.Bridge;
 import org.openhab.core.thing.Channel;
 
 /**
@@ -31,12 +34,28 @@ import org.openhab.core.thing.Channel;
 public class SynoApiThreadLiveUri extends SynoApiThread<SynoCameraHandler> {
     // private final Logger logger = LoggerFactory.getLogger(SynoApiThreadCamera.class);
 
+    // Last published response, cached responses are published only once
+    private volatile @Nullable LiveUriResponse lastResponse;
+
     public SynoApiThreadLiveUri(SynoCameraHandler handler, int refreshRate) {
         super(SynoApiThread.THREAD_LIVEURI, handler, refreshRate);
     }
 
     @Override
     public boolean isNeeded() {
+        // Live URIs are refreshed by the bridge for all cameras at once if enabled there
+        Bridge bridge = getSynoHandler().getBridge();
+        if (bridge != null && bridge.getHandler() instanceof SynoBridgeHandler
+                && ((SynoBridgeHandler) bridge.getHandler()).isStationLiveUriPolling()) {
+            return false;
+        }
+        return isLiveUriLinked();
+    }
+
+    /**
+     * @return if any of the live URI channels is linked
+     */
+    public boolean isLiveUriLinked() {
         return (getSynoHandler().isLinked(CHANNEL_LIVE_URI_RTSP)
                 || getSynoHandler().isLinked(CHANNEL_LIVE_URI_MJPEG_HTTP));
     }
@@ -47,8 +66,24 @@ public class SynoApiThreadLiveUri extends SynoApiThread<SynoCameraHandler> {
         String cameraId = cameraHandler.getCameraId();
 
         LiveUriResponse response = cameraHandler.getSynoWebApiHandler().getApiLiveUri().getLiveUriResponse(cameraId);
+        return update(response);
+    }
 
+    /**
+     * Updates the live URI channels
+     *
+     * @param response Live URI response of this camera
+     * @return if successful
+     * @throws WebApiException
+     */
+    public boolean update(LiveUriResponse response) throws WebApiException {
+        SynoCameraHandler cameraHandler = getSynoHandler();
         if (response.isSuccess()) {
+            if (response == lastResponse) {
+                return true;
+            }
+            lastResponse = response;
+
             if (cameraHandler.isLinked(CHANNEL_LIVE_URI_RTSP)) {
                 Channel channel = cameraHandler.getThing().getChannel(CHANNEL_LIVE_URI_RTSP);
                 String uri = response.getRtsp();
@@ -12,20 +12,28 @@
  */
 package org.openhab.binding.synologysurveillancestation.internal.thread;
 
-import static org.openhab.binding.synologysurveillancestation.SynoBindingConstants.CHANNEL_SNAPSHOT;
+import static org.openhab.binding.synologysurveillancestation.SynoBindingConstants.*;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32C;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.openhab.binding.synologysurveillancestation.handler.SynoCameraHandler;
 import org.openhab.binding.synologysurveillancestation.internal.SynoCameraConfig;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoMjpegParser;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoSnapshot;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
 import org.openhab.core.library.types.RawType;
-import org.openhab.core.thing.Channel;
-import org.openhab.core.thing.Thing;
+import org.openhab.core.library.types.StringType;
 import org.openhab.core.types.UnDefType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Thread for getting snapshots
+ * Thread for getting snapshots, either by polling or from the MJPEG live feed
  *
  * @author Pavion - Initial contribution
  */
@@ -33,22 +41,48 @@ import org.slf4j.LoggerFactory;
 public class SynoApiThreadSnapshot extends SynoApiThread<SynoCameraHandler> {
     private final Logger logger = LoggerFactory.getLogger(SynoApiThreadSnapshot.class);
 
+    // Number of suppressed updates between two log entries
+    private static final int SUPPRESSED_LOG_INTERVAL = 100;
+
+    // Shortest interval between two frames published from the live feed in milliseconds
+    private static final int MIN_FRAME_INTERVAL = 100;
+
+    // Guarded by this, written by the refresh job, the live feed and commands
+    private long lastHash = -1; // Hash and length of the last snapshot, -1 if none
+    private long suppressed = 0;
+    private boolean undefined = false; // Channels already set to UNDEF
+    private volatile @Nullable SynoSnapshot latest; // Latest snapshot served locally
+    private volatile SynoCameraConfig config; // Read by the live feed with every frame
+    private boolean subscribed = false; // Listening to the live feed in MJPEG snapshot mode
+    private final AtomicLong published = new AtomicLong(); // Time of the last frame published from the live feed
+    private final SynoMjpegParser.FrameListener frameListener = this::onFrame;
+
     public SynoApiThreadSnapshot(SynoCameraHandler handler, int refreshRate) {
         super(SynoApiThread.THREAD_SNAPSHOT, handler, refreshRate);
+        config = handler.getThing().getConfiguration().as(SynoCameraConfig.class);
     }
 
     @Override
     public boolean isNeeded() {
-        return (getSynoHandler().isLinked(CHANNEL_SNAPSHOT));
+        boolean needed = getSynoHandler().isLinked(CHANNEL_SNAPSHOT)
+                || getSynoHandler().isLinked(CHANNEL_SNAPSHOT_URI_LOCAL);
+        if (!needed) {
+            closeStream();
+        }
+        return needed;
     }
 
     @Override
     public boolean refresh() throws Exception {
         SynoCameraHandler cameraHandler = getSynoHandler();
+        SynoCameraConfig config = cameraHandler.getThing().getConfiguration().as(SynoCameraConfig.class);
+        this.config = config;
+
+        if (config.isSnapshotMjpeg()) {
+            return refreshStream();
+        }
+        closeStream();
 
-        Channel channel = cameraHandler.getThing().getChannel(CHANNEL_SNAPSHOT);
-        Thing thing = cameraHandler.getThing();
-        SynoCameraConfig config = thing.getConfiguration().as(SynoCameraConfig.class);
         byte[] snapshot = new byte[0];
         try {
             snapshot = cameraHandler.getSynoWebApiHandler().getApiCamera().getSnapshot(getSynoHandler().getCameraId(),
@@ -56,12 +90,148 @@ public class SynoApiThreadSnapshot extends SynoApiThread<SynoCameraHandler> {
         } catch (Exception e) {
             logger.error("Unexpected exception while obtaining snapshot, possibly network disconnected", e);
         }
+        return publish(snapshot, config);
+    }
+
+    /**
+     * Listens to the live feed of the camera, which is shared with the local live feed. A live feed without frames is
+     * reopened by the live feed itself.
+     *
+     * @return false if the live feed is not available
+     */
+    private synchronized boolean refreshStream() {
+        // A stopped thread does not listen, it would not stop listening anymore
+        if (subscribed || !isActive()) {
+            return true;
+        }
+        try {
+            getSynoHandler().getLiveFeed().addListener(frameListener);
+        } catch (WebApiException e) {
+            logger.debug("Device: {}, live feed not available: {}", getSynoHandler().getCameraId(), e.getMessage());
+            return false;
+        }
+        subscribed = true;
+        logger.debug("Device: {}, listening to live feed", getSynoHandler().getCameraId());
+        return true;
+    }
+
+    /**
+     * Publishes a frame of the live feed with the configuration current at its arrival
+     *
+     * @param buffer
+     * @param length
+     */
+    private void onFrame(byte[] buffer, int length) {
+        // Frames arriving within the interval are dropped without being copied
+        SynoCameraConfig current = config;
+        int interval = Math.max(MIN_FRAME_INTERVAL, current.getMjpegFrameInterval());
+        long now = System.currentTimeMillis();
+        long last = published.get();
+        if (now - last >= interval && published.compareAndSet(last, now)) {
+            publish(Arrays.copyOf(buffer, length), current);
+        }
+    }
+
+    /**
+     * Stops listening to the live feed, which is closed with its last user
+     */
+    private synchronized void closeStream() {
+        if (subscribed) {
+            getSynoHandler().getLiveFeed().removeListener(frameListener);
+            subscribed = false;
+        }
+    }
+
+    @Override
+    public synchronized CompletableFuture<Void> stopAsync() {
+        closeStream();
+        if (suppressed > 0) {
+            logger.debug("Device: {}, stopped, {} unchanged snapshots not updated in total",
+                    getSynoHandler().getCameraId(), suppressed);
+            suppressed = 0;
+        }
+        return super.stopAsync();
+    }
+
+    /**
+     * Updates the snapshot channels with a new snapshot
+     *
+     * @param snapshot
+     * @param config
+     * @return false if no valid snapshot has been received
+     */
+    private synchronized boolean publish(byte[] snapshot, SynoCameraConfig config) {
+        SynoCameraHandler cameraHandler = getSynoHandler();
         if (snapshot.length < 1000) {
-            getSynoHandler().updateState(channel.getUID(), UnDefType.UNDEF);
+            lastHash = -1;
+            latest = null;
+            // A disabled camera keeps answering without snapshot, UNDEF is set only once
+            if (!undefined) {
+                undefined = true;
+                cameraHandler.updateState(CHANNEL_SNAPSHOT, UnDefType.UNDEF);
+                if (cameraHandler.isLinked(CHANNEL_SNAPSHOT_URI_LOCAL)) {
+                    cameraHandler.updateState(CHANNEL_SNAPSHOT_URI_LOCAL, UnDefType.UNDEF);
+                }
+            }
             return (snapshot.length == 2);
         } else {
-            getSynoHandler().updateState(channel.getUID(), new RawType(snapshot, "image/jpeg"));
+            long hash = hash(snapshot);
+            boolean changed = hash != lastHash;
+            lastHash = hash;
+            undefined = false;
+            if (changed) {
+                latest = new SynoSnapshot(snapshot, hash);
+            } else if (config.isSnapshotDeduplication()) {
+                suppressed++;
+                if (suppressed % SUPPRESSED_LOG_INTERVAL == 0) {
+                    logger.debug("Device: {}, {} unchanged snapshots not updated", cameraHandler.getCameraId(),
+                            suppressed);
+                }
+                return true;
+            }
+            if (cameraHandler.isLinked(CHANNEL_SNAPSHOT)) {
+                cameraHandler.updateState(CHANNEL_SNAPSHOT, new RawType(snapshot, SynoSnapshot.CONTENT_TYPE));
+            }
+            // The version parameter makes clients reload the image
+            if (changed && cameraHandler.isLinked(CHANNEL_SNAPSHOT_URI_LOCAL)) {
+                cameraHandler.updateState(CHANNEL_SNAPSHOT_URI_LOCAL,
+                        new StringType(cameraHandler.getSnapshotPath() + "&v=" + Long.toHexString(hash)));
+            }
             return true;
         }
     }
+
+    /**
+     * Applies a changed configuration, frames of an open live feed are published with it right away
+     *
+     * @param config
+     */
+    public void setConfig(SynoCameraConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Forces an update with the next snapshot, even if unchanged
+     */
+    public synchronized void invalidate() {
+        lastHash = -1;
+        undefined = false;
+    }
+
+    /**
+     * @return the latest snapshot or null if not available
+     */
+    public @Nullable SynoSnapshot getLatest() {
+        return latest;
+    }
+
+    /**
+     * @param snapshot
+     * @return CRC32C checksum of the snapshot combined with its length
+     */
+    private static long hash(byte[] snapshot) {
+        CRC32C crc = new CRC32C();
+        crc.update(snapshot, 0, snapshot.length);
+        return (long) snapshot.length << 32 | crc.getValue();
+    }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.thread;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.binding.synologysurveillancestation.handler.SynoBridgeHandler;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApi;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiBatch;
+
+/**
+ * Bridge tick refreshing home mode, camera states, camera events and live URIs with a single compound request
+ *
+ * @author Pavion - Initial contribution
+ */
+@NonNullByDefault
+public class SynoApiThreadStation extends SynoApiThread<SynoBridgeHandler> {
+
+    private final List<SynoApiThread<SynoBridgeHandler>> parts;
+
+    /**
+     * @param handler Bridge handler
+     * @param refreshRate Refresh rate in seconds
+     * @param parts Threads refreshed by this tick, which are not started on their own
+     */
+    public SynoApiThreadStation(SynoBridgeHandler handler, int refreshRate,
+            List<SynoApiThread<SynoBridgeHandler>> parts) {
+        super(SynoApiThread.THREAD_STATION, handler, refreshRate);
+        this.parts = parts;
+    }
+
+    @Override
+    public boolean isNeeded() {
+        for (SynoApiThread<SynoBridgeHandler> part : parts) {
+            if (part.isNeeded()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean refresh() throws Exception {
+        SynoApiBatch.Batch batch = getSynoHandler().getSynoWebApiHandler().getApiBatch().newBatch();
+        List<CompletableFuture<Boolean>> results = new ArrayList<>();
+        for (SynoApiThread<SynoBridgeHandler> part : parts) {
+            if (part.isNeeded()) {
+                CompletableFuture<Boolean> result = part.refresh(batch);
+                results.add(result != null ? result : CompletableFuture.completedFuture(part.refresh()));
+            }
+        }
+        batch.execute();
+
+        // A tick waits at most one refresh period (but never less than a single request) for all its parts
+        long deadline = System.currentTimeMillis() + Math.max(getRefreshRate() * 1000L, SynoApi.REQUEST_TIMEOUT);
+        boolean success = true;
+        @Nullable
+        Exception error = null;
+        for (CompletableFuture<Boolean> result : results) {
+            try {
+                success &= result.get(Math.max(deadline - System.currentTimeMillis(), 0), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                throw new WebApiException(e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (error == null) {
+                    error = cause instanceof Exception ? (Exception) cause : e;
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+        return success;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.thread;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.synologysurveillancestation.handler.SynoBridgeHandler;
+import org.openhab.binding.synologysurveillancestation.handler.SynoCameraHandler;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoEventCursor;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.error.WebApiAuthErrorCodes;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiBatch;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiEvent;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.response.EventResponse;
+
+/**
+ * Thread for getting events (motion, alarm) of all cameras with a single request
+ *
+ * @author Pavion - Initial contribution
+ */
+@NonNullByDefault
+public class SynoApiThreadStationEvent extends SynoApiThread<SynoBridgeHandler> {
+
+    private final SynoEventCursor cursor;
+    private volatile long lastPoll = 0;
+
+    public SynoApiThreadStationEvent(SynoBridgeHandler handler, int refreshRate) {
+        super(SynoApiThread.THREAD_STATIONEVENT, handler, refreshRate);
+        cursor = new SynoEventCursor(refreshRate);
+    }
+
+    @Override
+    public boolean isNeeded() {
+        return !getEventCameras().isEmpty();
+    }
+
+    @Override
+    public boolean refresh() throws Exception {
+        List<SynoCameraHandler> cameras = getEventCameras();
+        if (!isPollDue(cameras)) {
+            return true;
+        }
+
+        List<String> cameraIds = new ArrayList<>();
+        for (SynoCameraHandler camera : cameras) {
+            cameraIds.add(camera.getCameraId());
+        }
+
+        EventResponse response = getSynoHandler().getSynoWebApiHandler().getApiEvent().getEventResponse(
+                String.join(",", cameraIds), cursor.getTime(), SynoApiEvent.EVENT_LIMIT * cameras.size(),
+                r -> isComplete(cameras, r));
+        return update(cameras, cameraIds, response);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> refresh(SynoApiBatch.Batch batch) {
+        List<SynoCameraHandler> cameras = getEventCameras();
+        if (!isPollDue(cameras)) {
+            return CompletableFuture.completedFuture(true);
+        }
+
+        List<String> cameraIds = new ArrayList<>();
+        for (SynoCameraHandler camera : cameras) {
+            cameraIds.add(camera.getCameraId());
+        }
+
+        SynoApiEvent apiEvent = getSynoHandler().getSynoWebApiHandler().getApiEvent();
+        String cameraIdList = String.join(",", cameraIds);
+        long fromTime = cursor.getTime();
+        int limit = SynoApiEvent.EVENT_LIMIT * cameras.size();
+        return handle(apiEvent.getEventResponse(batch, cameraIdList, fromTime, limit).thenCompose(
+                response -> apiEvent.getRemainingEvents(response, cameraIdList, fromTime, limit,
+                        r -> isComplete(cameras, r))),
+                response -> update(cameras, cameraIds, response));
+    }
+
+    /**
+     * Updates the event channels of the cameras
+     *
+     * @param cameras Cameras the events have been requested for
+     * @param cameraIds IDs of the cameras
+     * @param response Event response
+     * @return if successful
+     * @throws WebApiException
+     */
+    private boolean update(List<SynoCameraHandler> cameras, List<String> cameraIds, EventResponse response)
+            throws WebApiException {
+        if (response.isSuccess()) {
+            for (SynoCameraHandler camera : cameras) {
+                camera.updateEvents(response, cursor);
+            }
+            cursor.advance(response, cameraIds);
+            lastPoll = System.currentTimeMillis();
+            return true;
+        } else if (response.getErrorcode() == 105) {
+            throw new WebApiException(WebApiAuthErrorCodes.INSUFFICIENT_USER_PRIVILEGE);
+        }
+        return false;
+    }
+
+    /**
+     * All cameras share a single request, so events are polled as soon as a poll is due for one of the cameras
+     *
+     * @param cameras
+     * @return if a poll is due
+     */
+    private boolean isPollDue(List<SynoCameraHandler> cameras) {
+        for (SynoCameraHandler camera : cameras) {
+            if (getSynoHandler().isEventPollDue(camera.getCameraId(), lastPoll)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @param cameras Cameras the events have been requested for
+     * @param response Event response
+     * @return if the response contains an event of each linked reason of all cameras
+     */
+    private static boolean isComplete(List<SynoCameraHandler> cameras, EventResponse response) {
+        for (SynoCameraHandler camera : cameras) {
+            if (!camera.hasLinkedEvents(response)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return all online cameras with at least one event channel linked
+     */
+    private List<SynoCameraHandler> getEventCameras() {
+        List<SynoCameraHandler> cameras = new ArrayList<>();
+        for (SynoCameraHandler camera : getSynoHandler().getCameraHandlers()) {
+            if (camera.isEventLinked()) {
+                cameras.add(camera);
+            }
+        }
+        return cameras;
+    }
+}
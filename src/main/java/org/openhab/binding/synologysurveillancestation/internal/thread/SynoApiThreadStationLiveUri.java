@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.thread;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.synologysurveillancestation.handler.SynoBridgeHandler;
+import org.openhab.binding.synologysurveillancestation.handler.SynoCameraHandler;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiBatch;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiLiveUri;
+
+/**
+ * Thread for refreshing live URIs of all cameras as part of the bridge tick. Live URIs are cached for a while, so
+ * most ticks are served from the cache without adding a request to the batch.
+ *
+ * @author Pavion - Initial contribution
+ */
+@NonNullByDefault
+public class SynoApiThreadStationLiveUri extends SynoApiThread<SynoBridgeHandler> {
+
+    public SynoApiThreadStationLiveUri(SynoBridgeHandler handler, int refreshRate) {
+        super(SynoApiThread.THREAD_STATIONLIVEURI, handler, refreshRate);
+    }
+
+    @Override
+    public boolean isNeeded() {
+        return !getLiveUriCameras().isEmpty();
+    }
+
+    @Override
+    public boolean refresh() throws Exception {
+        boolean success = true;
+        SynoApiLiveUri apiLiveUri = getSynoHandler().getSynoWebApiHandler().getApiLiveUri();
+        for (SynoCameraHandler camera : getLiveUriCameras()) {
+            success &= camera.updateLiveUri(apiLiveUri.getLiveUriResponse(camera.getCameraId()));
+        }
+        return success;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> refresh(SynoApiBatch.Batch batch) {
+        SynoApiLiveUri apiLiveUri = getSynoHandler().getSynoWebApiHandler().getApiLiveUri();
+        CompletableFuture<Boolean> result = CompletableFuture.completedFuture(true);
+        for (SynoCameraHandler camera : getLiveUriCameras()) {
+            CompletableFuture<Boolean> update = handle(apiLiveUri.getLiveUriResponse(batch, camera.getCameraId()),
+                    camera::updateLiveUri);
+            result = result.thenCombine(update, Boolean::logicalAnd);
+        }
+        return result;
+    }
+
+    /**
+     * @return all online cameras with at least one live URI channel linked
+     */
+    private List<SynoCameraHandler> getLiveUriCameras() {
+        List<SynoCameraHandler> cameras = new ArrayList<>();
+        for (SynoCameraHandler camera : getSynoHandler().getCameraHandlers()) {
+            if (camera.isLiveUriLinked()) {
+                cameras.add(camera);
+            }
+        }
+        return cameras;
+    }
+}
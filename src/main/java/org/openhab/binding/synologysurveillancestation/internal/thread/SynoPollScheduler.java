@@ -0,0 +1,407 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.thread;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.openhab.core.common.NamedThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link SynoPollScheduler} runs the periodic jobs of a bridge and its cameras from a single hashed timer wheel.
+ * Jobs with the same period are spread evenly across it, so they do not hit the Station at the same time. Due jobs
+ * are dispatched to a bounded worker pool, a job still running is skipped until its next turn.
+ *
+ * Optionally, jobs and commands run on virtual threads. The number of jobs running at the same time is then bounded
+ * by a semaphore instead of the pool size.
+ *
+ * @author Pavion - Initial contribution
+ */
+@NonNullByDefault
+public class SynoPollScheduler {
+
+    private final Logger logger = LoggerFactory.getLogger(SynoPollScheduler.class);
+
+    // Duration of a wheel tick in milliseconds
+    private static final long TICK = 250;
+    // Number of wheel slots, periods longer than a turn of the wheel wait for several rounds
+    private static final int WHEEL_SIZE = 256;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    // Fractional part of the golden ratio, spreads consecutive phases evenly without knowing the number of jobs
+    private static final double PHASE_STEP = 0.6180339887498949;
+    // Ticks between two statistics log entries
+    private static final int STATISTICS_TICKS = 240;
+
+    private final String id;
+    private final ScheduledExecutorService timer;
+    private final List<List<Job>> wheel = new ArrayList<>(WHEEL_SIZE);
+    private final Map<Long, Integer> phases = new HashMap<>();
+    private long tick = 0;
+    private int workers;
+    private boolean virtualThreads = false;
+    private @Nullable ScheduledFuture<?> timerFuture;
+    private @Nullable ExecutorService pool;
+    private @Nullable Semaphore permits;
+    private @Nullable Supplier<String> statistics;
+
+    // Statistics on pool occupancy
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger peak = new AtomicInteger();
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong waitNanos = new AtomicLong();
+
+    /**
+     * @param id Name of the worker threads
+     * @param timer Scheduler driving the wheel
+     * @param workers Maximum number of jobs running at the same time
+     */
+    public SynoPollScheduler(String id, ScheduledExecutorService timer, int workers) {
+        this.id = id;
+        this.timer = timer;
+        this.workers = Math.max(1, workers);
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            wheel.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * A periodic job of the scheduler
+     */
+    public static class Job {
+        private final String name;
+        private final Runnable task;
+        private final long period;
+        private final AtomicBoolean running = new AtomicBoolean(false);
+        private volatile boolean cancelled = false;
+        private long rounds = 0;
+
+        private Job(String name, Runnable task, long period) {
+            this.name = name;
+            this.task = task;
+            this.period = period;
+        }
+
+        /**
+         * Cancels the job, a run already in progress is not interrupted
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        /**
+         * @return if the job has been cancelled
+         */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        /**
+         * @return if a run of the job is in progress
+         */
+        public boolean isRunning() {
+            return running.get();
+        }
+
+        /**
+         * Hands the job over to the worker pool unless it is still running
+         *
+         * @param scheduler Scheduler owning the job
+         * @return false if the job has been skipped
+         */
+        private boolean dispatch(SynoPollScheduler scheduler) {
+            if (!running.compareAndSet(false, true)) {
+                return false;
+            }
+            boolean submitted = scheduler.submit(() -> {
+                try {
+                    if (!cancelled) {
+                        task.run();
+                    }
+                } finally {
+                    running.set(false);
+                }
+            }, true);
+            if (!submitted) {
+                running.set(false);
+            }
+            return submitted;
+        }
+    }
+
+    /**
+     * Starts the wheel and the worker pool
+     */
+    public synchronized void start() {
+        if (timerFuture == null) {
+            if (virtualThreads) {
+                pool = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("OH-" + id + "-", 1).factory());
+                permits = new Semaphore(workers);
+            } else {
+                ThreadPoolExecutor executor = new ThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS,
+                        new LinkedBlockingQueue<>(), new NamedThreadFactory(id));
+                executor.allowCoreThreadTimeOut(true);
+                pool = executor;
+                permits = null;
+            }
+            timerFuture = timer.scheduleAtFixedRate(this::tick, TICK, TICK, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Stops the wheel and the worker pool, all jobs are dropped
+     */
+    public synchronized void stop() {
+        ScheduledFuture<?> future = timerFuture;
+        if (future != null) {
+            future.cancel(false);
+            timerFuture = null;
+            logStatistics();
+        }
+        ExecutorService executor = pool;
+        if (executor != null) {
+            executor.shutdown();
+            pool = null;
+        }
+        permits = null;
+        for (List<Job> slot : wheel) {
+            for (Job job : slot) {
+                job.cancel();
+            }
+            slot.clear();
+        }
+        phases.clear();
+    }
+
+    /**
+     * Schedules a periodic job. The first run takes place within one period, depending on the phase of the job.
+     *
+     * @param name Name of the job for logging purposes
+     * @param task Task to run
+     * @param period Period in seconds
+     * @return the job
+     */
+    public synchronized Job schedule(String name, Runnable task, int period) {
+        long periodTicks = Math.max(1, period * 1000L / TICK);
+        int index = phases.merge(periodTicks, 1, Integer::sum) - 1;
+        long phase = (long) ((index * PHASE_STEP) % 1.0 * periodTicks);
+        Job job = new Job(name, task, periodTicks);
+        insert(job, phase);
+        logger.debug("Job {} scheduled every {} s, phase {} ms", name, period, phase * TICK);
+        return job;
+    }
+
+    /**
+     * Changes the maximum number of jobs running at the same time
+     *
+     * @param workers
+     */
+    public synchronized void setWorkers(int workers) {
+        this.workers = Math.max(1, workers);
+        ExecutorService executor = pool;
+        if (executor instanceof ThreadPoolExecutor) {
+            ThreadPoolExecutor threadPool = (ThreadPoolExecutor) executor;
+            if (this.workers > threadPool.getMaximumPoolSize()) {
+                threadPool.setMaximumPoolSize(this.workers);
+                threadPool.setCorePoolSize(this.workers);
+            } else {
+                threadPool.setCorePoolSize(this.workers);
+                threadPool.setMaximumPoolSize(this.workers);
+            }
+        } else if (executor != null) {
+            // Jobs already running release the permits of the previous semaphore
+            permits = new Semaphore(this.workers);
+        }
+    }
+
+    /**
+     * Selects virtual threads for jobs and commands, applied on the next start
+     *
+     * @param virtualThreads
+     */
+    public synchronized void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * @return if jobs and commands run on virtual threads
+     */
+    public synchronized boolean isVirtualThreads() {
+        return virtualThreads && pool != null;
+    }
+
+    /**
+     * Runs a one-off task, e.g. a command, on the worker pool. Unlike jobs, tasks do not wait for a permit, the
+     * requests they send are still limited by the request limiter.
+     *
+     * @param task
+     * @return false if the scheduler is not running and the task has not been accepted
+     */
+    public boolean execute(Runnable task) {
+        return submit(task, false);
+    }
+
+    /**
+     * Submits a task to the worker pool
+     *
+     * @param task
+     * @param bounded if the task has to acquire a permit before running
+     * @return false if the task has been rejected
+     */
+    private boolean submit(Runnable task, boolean bounded) {
+        ExecutorService executor;
+        Semaphore limit;
+        synchronized (this) {
+            executor = pool;
+            limit = bounded ? permits : null;
+        }
+        if (executor == null) {
+            return false;
+        }
+        long queued = System.nanoTime();
+        try {
+            executor.execute(() -> run(task, limit, queued));
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Runs a task and records the pool occupancy
+     *
+     * @param task
+     * @param limit Semaphore bounding the running jobs or null
+     * @param queued Time the task has been submitted (ns)
+     */
+    private void run(Runnable task, @Nullable Semaphore limit, long queued) {
+        boolean acquired = false;
+        try {
+            if (limit != null) {
+                limit.acquire();
+                acquired = true;
+            }
+            waitNanos.addAndGet(System.nanoTime() - queued);
+            runs.incrementAndGet();
+            peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+            try {
+                task.run();
+            } finally {
+                active.decrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (acquired && limit != null) {
+                limit.release();
+            }
+        }
+    }
+
+    /**
+     * Adds statistics of other components, e.g. the request queues, to the periodic statistics log
+     *
+     * @param statistics Supplier of the current statistics
+     */
+    public void setStatistics(Supplier<String> statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * Logs the pool occupancy since the last log entry
+     */
+    private void logStatistics() {
+        long count = runs.getAndSet(0);
+        long wait = waitNanos.getAndSet(0);
+        long skips = skipped.getAndSet(0);
+        int maximum = peak.getAndSet(active.get());
+        if (count > 0 || skips > 0) {
+            logger.debug("{} ({} threads): {} runs, {} skipped, peak {} of {} workers, average wait {} ms", id,
+                    virtualThreads ? "virtual" : "platform", count, skips, maximum, workers,
+                    count > 0 ? wait / count / 1000000 : 0);
+        }
+        Supplier<String> current = statistics;
+        if (current != null) {
+            logger.debug("{}: {}", id, current.get());
+        }
+    }
+
+    /**
+     * Puts a job into the wheel. Must be called holding the lock.
+     *
+     * @param job
+     * @param delay Delay in ticks, at least one tick
+     */
+    private void insert(Job job, long delay) {
+        long deadline = tick + Math.max(1, delay);
+        job.rounds = (deadline - tick - 1) / WHEEL_SIZE;
+        wheel.get((int) (deadline & WHEEL_MASK)).add(job);
+    }
+
+    /**
+     * Advances the wheel by one tick and dispatches all due jobs
+     */
+    private void tick() {
+        List<Job> due = new ArrayList<>();
+        synchronized (this) {
+            tick++;
+            Iterator<Job> slot = wheel.get((int) (tick & WHEEL_MASK)).iterator();
+            while (slot.hasNext()) {
+                Job job = slot.next();
+                if (job.cancelled) {
+                    slot.remove();
+                } else if (job.rounds > 0) {
+                    job.rounds--;
+                } else {
+                    slot.remove();
+                    due.add(job);
+                }
+            }
+            for (Job job : due) {
+                insert(job, job.period);
+            }
+        }
+        if (!due.isEmpty()) {
+            logger.trace("Tick {}: {} jobs due, {} running", tick, due.size(), active.get());
+            for (Job job : due) {
+                if (!job.dispatch(this)) {
+                    skipped.incrementAndGet();
+                    logger.trace("Job {} still running, skipped", job.name);
+                }
+            }
+        }
+        if (tick % STATISTICS_TICKS == 0 && logger.isDebugEnabled()) {
+            logStatistics();
+        }
+    }
+}
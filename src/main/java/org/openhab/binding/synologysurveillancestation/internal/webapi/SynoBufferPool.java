@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.webapi;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link SynoBufferPool} keeps a few reusable buffers for downloading snapshots. The buffer size follows the
+ * observed snapshot sizes: it grows with the first larger snapshot and shrinks slowly if snapshots get smaller.
+ * Buffers smaller than the current size are dropped on release.
+ *
+ * @author Pavion - Initial contribution
+ */
+@NonNullByDefault
+public class SynoBufferPool {
+
+    // Smallest buffer size and granularity of buffer sizes
+    private static final int MIN_SIZE = 64 * 1024;
+    // Largest accepted content
+    public static final int MAX_SIZE = 16 * 1024 * 1024;
+    // Maximum number of pooled buffers
+    private static final int MAX_BUFFERS = 8;
+
+    private final Deque<byte[]> buffers = new ArrayDeque<>();
+    private int size = MIN_SIZE;
+
+    /**
+     * @return a pooled buffer or a new one of the current size
+     */
+    public synchronized byte[] acquire() {
+        byte[] buffer;
+        while ((buffer = buffers.pollFirst()) != null) {
+            if (buffer.length >= size) {
+                return buffer;
+            }
+        }
+        return new byte[size];
+    }
+
+    /**
+     * Returns a buffer to the pool
+     *
+     * @param buffer
+     */
+    public synchronized void release(byte[] buffer) {
+        if (buffer.length >= size && buffers.size() < MAX_BUFFERS) {
+            buffers.addFirst(buffer);
+        }
+    }
+
+    /**
+     * Provides a buffer large enough for the required number of bytes
+     *
+     * @param buffer Buffer in use
+     * @param required Required number of bytes
+     * @param length Number of bytes in use to be kept
+     * @return the buffer in use if large enough, otherwise a larger buffer holding its content
+     * @throws IllegalArgumentException if more than the maximum content size is required
+     */
+    public byte[] ensureCapacity(byte[] buffer, int required, int length) {
+        if (required <= buffer.length) {
+            return buffer;
+        }
+        if (required > MAX_SIZE) {
+            throw new IllegalArgumentException("Content exceeds " + MAX_SIZE + " bytes");
+        }
+        return Arrays.copyOf(buffer, Math.min(MAX_SIZE, Math.max(sizeFor(required), buffer.length * 2)));
+    }
+
+    /**
+     * Adjusts the buffer size to the size of a received content
+     *
+     * @param length Size of the content
+     */
+    public synchronized void record(int length) {
+        int required = sizeFor(length);
+        size = required >= size ? required : roundUp(size - (size - required) / 16);
+    }
+
+    /**
+     * @return the current buffer size
+     */
+    public synchronized int getSize() {
+        return size;
+    }
+
+    /**
+     * @param length Size of a content
+     * @return buffer size for the content with a quarter of headroom, rounded up to the granularity
+     */
+    private static int sizeFor(int length) {
+        return roundUp(length + length / 4L);
+    }
+
+    /**
+     * @param length
+     * @return the length rounded up to the granularity, within the size limits
+     */
+    private static int roundUp(long length) {
+        long rounded = (length + MIN_SIZE - 1) / MIN_SIZE * MIN_SIZE;
+        return (int) Math.max(MIN_SIZE, Math.min(MAX_SIZE, rounded));
+    }
+}
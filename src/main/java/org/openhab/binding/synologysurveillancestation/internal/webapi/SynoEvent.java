@@ -12,6 +12,9 @@
  */
 package org.openhab.binding.synologysurveillancestation.internal.webapi;
 
+import java.util.Locale;
+import java.util.Map;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
 /**
@@ -31,6 +34,13 @@ public class SynoEvent {
     public static final int EVENT_REASON_EDGE = 8;
     public static final int EVENT_REASON_ACTIONRULE = 9;
 
+    /**
+     * Event types as used by pushed events
+     */
+    private static final Map<String, Integer> EVENT_TYPES = Map.of("continuous", EVENT_REASON_CONTINUOUS, "motion",
+            EVENT_REASON_MOTION, "alarm", EVENT_REASON_ALARM, "manual", EVENT_REASON_MANUAL, "external",
+            EVENT_REASON_EXTERNAL, "actionrule", EVENT_REASON_ACTIONRULE);
+
     private boolean eventCompleted = true;
     private long eventId = -1;
     private final int reason;
@@ -91,4 +101,23 @@ public class SynoEvent {
     public int getReason() {
         return reason;
     }
+
+    /**
+     * Converts an event type (e.g. motion) or a numeric event reason into an event reason
+     *
+     * @param eventType Event type or reason
+     * @return the reason or 0 if unknown
+     */
+    public static int reasonOf(String eventType) {
+        Integer reason = EVENT_TYPES.get(eventType.trim().toLowerCase(Locale.ROOT));
+        if (reason != null) {
+            return reason;
+        }
+        try {
+            int number = Integer.parseInt(eventType.trim());
+            return number >= EVENT_REASON_CONTINUOUS && number <= EVENT_REASON_ACTIONRULE ? number : 0;
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
 }
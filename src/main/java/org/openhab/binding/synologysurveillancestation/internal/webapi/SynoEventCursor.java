@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.webapi;
+
+import java.time.ZonedDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.response.EventResponse;
+
+/**
+ * {@link SynoEventCursor} is an incremental position in the event list of the Station. It consists of a start time
+ * for the next poll (either the server time or the start of the oldest still open event) and the last seen event ID
+ * of each camera. Events already seen and completed are skipped, so only new or still open events are processed.
+ *
+ * @author Pavion - Initial contribution
+ */
+@NonNullByDefault
+public class SynoEventCursor {
+
+    private volatile long time;
+    private final Map<String, Long> lastEventIds = new ConcurrentHashMap<>();
+
+    /**
+     * @param refreshRate Refresh rate in seconds, used to compute the initial time
+     */
+    public SynoEventCursor(int refreshRate) {
+        time = ZonedDateTime.now().minusSeconds(refreshRate * 2).toEpochSecond();
+    }
+
+    /**
+     * @return the time (epoch seconds) from which events have to be requested
+     */
+    public long getTime() {
+        return time;
+    }
+
+    /**
+     * Checks if an event has to be processed
+     *
+     * @param cameraId
+     * @param eventId
+     * @param eventCompleted
+     * @return false if the event has already been seen and is completed
+     */
+    public boolean isNew(String cameraId, long eventId, boolean eventCompleted) {
+        return !eventCompleted || eventId > lastEventIds.getOrDefault(cameraId, -1L);
+    }
+
+    /**
+     * Advances the cursor after a response has been processed
+     *
+     * @param response Successful event response
+     * @param cameraIds Cameras covered by the response
+     */
+    public void advance(EventResponse response, Iterable<String> cameraIds) {
+        for (String cameraId : cameraIds) {
+            long lastEventId = response.getLastEventId(cameraId);
+            if (lastEventId > lastEventIds.getOrDefault(cameraId, -1L)) {
+                lastEventIds.put(cameraId, lastEventId);
+            }
+        }
+        if (response.getTimestamp() > time) {
+            time = response.getTimestamp();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.webapi;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * The {@link SynoMetadataCache} persists rarely changing camera metadata (properties, PTZ capabilities, motion
+ * detection support, presets and patrols) of a Station in a file, so that cameras can go online with the last known
+ * values right after a restart and revalidate them in the background.
+ *
+ * @author Pavion - Initial contribution
+ */
+@NonNullByDefault
+public class SynoMetadataCache {
+
+    private final Logger logger = LoggerFactory.getLogger(SynoMetadataCache.class);
+
+    private static final Type TYPE = new TypeToken<Map<String, CameraMetadata>>() {
+    }.getType();
+
+    private final Gson gson = new Gson();
+    private final Path file;
+    private final Map<String, CameraMetadata> cameras = new HashMap<>();
+
+    /**
+     * Metadata of a single camera
+     */
+    public static class CameraMetadata {
+        private Map<String, String> properties = new LinkedHashMap<>();
+        private boolean mdParam = false;
+        private Map<String, String> presets = new LinkedHashMap<>();
+        private Map<String, String> patrols = new LinkedHashMap<>();
+
+        public CameraMetadata() {
+        }
+
+        /**
+         * @param properties Camera properties as strings
+         * @param mdParam if motion detection parameters are supported
+         * @param presets Presets by ID
+         * @param patrols Patrols by ID
+         */
+        public CameraMetadata(Map<String, String> properties, boolean mdParam, Map<String, String> presets,
+                Map<String, String> patrols) {
+            this.properties = new LinkedHashMap<>(properties);
+            this.mdParam = mdParam;
+            this.presets = new LinkedHashMap<>(presets);
+            this.patrols = new LinkedHashMap<>(patrols);
+        }
+
+        public Map<String, String> getProperties() {
+            return properties;
+        }
+
+        public boolean isMdParam() {
+            return mdParam;
+        }
+
+        public Map<String, String> getPresets() {
+            return presets;
+        }
+
+        public Map<String, String> getPatrols() {
+            return patrols;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CameraMetadata)) {
+                return false;
+            }
+            CameraMetadata other = (CameraMetadata) obj;
+            return mdParam == other.mdParam && properties.equals(other.properties) && presets.equals(other.presets)
+                    && patrols.equals(other.patrols);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(properties, mdParam, presets, patrols);
+        }
+    }
+
+    /**
+     * @param file File storing the metadata
+     */
+    public SynoMetadataCache(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Loads the metadata stored by a previous run, a missing or broken file results in an empty cache
+     */
+    public synchronized void load() {
+        cameras.clear();
+        if (!Files.isRegularFile(file)) {
+            return;
+        }
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            Map<String, CameraMetadata> stored = gson.fromJson(reader, TYPE);
+            if (stored != null) {
+                cameras.putAll(stored);
+            }
+            logger.debug("Metadata of {} cameras loaded from {}", cameras.size(), file);
+        } catch (IOException | JsonParseException e) {
+            logger.debug("Metadata could not be loaded from {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * @param cameraId
+     * @return the metadata of the camera or null if unknown
+     */
+    public synchronized @Nullable CameraMetadata get(String cameraId) {
+        return cameras.get(cameraId);
+    }
+
+    /**
+     * Stores the metadata of a camera, the file is only written if the metadata has changed
+     *
+     * @param cameraId
+     * @param metadata
+     */
+    public synchronized void put(String cameraId, CameraMetadata metadata) {
+        if (!metadata.equals(cameras.put(cameraId, metadata))) {
+            save();
+        }
+    }
+
+    /**
+     * Removes the metadata of a camera
+     *
+     * @param cameraId
+     */
+    public synchronized void remove(String cameraId) {
+        if (cameras.remove(cameraId) != null) {
+            save();
+        }
+    }
+
+    /**
+     * Writes the metadata to a temporary file replacing the cache file, so that a crash never leaves a partial file
+     */
+    private void save() {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                gson.toJson(cameras, TYPE, writer);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.debug("Metadata could not be saved to {}: {}", file, e.getMessage());
+        }
+    }
+}
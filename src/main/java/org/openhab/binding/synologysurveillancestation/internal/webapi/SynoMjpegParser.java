@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.webapi;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Locale;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link SynoMjpegParser} splits a multipart/x-mixed-replace MJPEG stream into frames as the content arrives.
+ * A part is read by its Content-Length header if present, otherwise up to the next boundary. Frames are passed in a
+ * reused buffer, listeners have to copy what they keep.
+ *
+ * @author Pavion - Initial contribution
+ */
+@NonNullByDefault
+public class SynoMjpegParser {
+
+    // Maximum size of the headers of a part
+    private static final int MAX_HEADERS = 8192;
+
+    /**
+     * Receives the frames of a stream
+     */
+    @FunctionalInterface
+    public interface FrameListener {
+        /**
+         * @param buffer Buffer holding the frame, only valid during the call
+         * @param length Size of the frame
+         */
+        void onFrame(byte[] buffer, int length);
+    }
+
+    private enum State {
+        HEADERS,
+        BODY
+    }
+
+    private final FrameListener listener;
+    private final SynoBufferPool pool;
+    private final byte @Nullable [] boundary;
+    private final byte[] headers = new byte[MAX_HEADERS];
+    private int headersLength = 0;
+    private byte[] frame;
+    private int frameLength = 0;
+    private int contentLength = -1;
+    private State state = State.HEADERS;
+    private long frames = 0;
+
+    /**
+     * @param contentType Content type of the stream holding the boundary
+     * @param pool Pool providing the frame buffer
+     * @param listener
+     */
+    public SynoMjpegParser(@Nullable String contentType, SynoBufferPool pool, FrameListener listener) {
+        this.listener = listener;
+        this.pool = pool;
+        this.frame = pool.acquire();
+        String value = getBoundary(contentType);
+        this.boundary = value == null ? null : ("\r\n--" + value).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * Parses the next chunk of the stream
+     *
+     * @param content
+     * @throws IllegalArgumentException if the stream is malformed or a frame exceeds the maximum size
+     */
+    public void parse(ByteBuffer content) {
+        while (content.hasRemaining()) {
+            if (state == State.HEADERS) {
+                parseHeaders(content);
+            } else if (contentLength >= 0) {
+                int length = Math.min(content.remaining(), contentLength - frameLength);
+                frame = pool.ensureCapacity(frame, frameLength + length, frameLength);
+                content.get(frame, frameLength, length);
+                frameLength += length;
+                if (frameLength == contentLength) {
+                    completeFrame(frameLength);
+                }
+            } else {
+                parseUntilBoundary(content);
+            }
+        }
+    }
+
+    /**
+     * Returns the frame buffer to the pool, no more content can be parsed afterwards
+     */
+    public void close() {
+        pool.release(frame);
+        frame = new byte[0];
+    }
+
+    /**
+     * @return the number of frames parsed
+     */
+    public long getFrames() {
+        return frames;
+    }
+
+    /**
+     * Collects the headers of a part up to the empty line, leading line breaks and boundary lines are skipped
+     *
+     * @param content
+     */
+    private void parseHeaders(ByteBuffer content) {
+        while (content.hasRemaining() && state == State.HEADERS) {
+            byte b = content.get();
+            if (headersLength == MAX_HEADERS) {
+                throw new IllegalArgumentException("Headers of a part exceed " + MAX_HEADERS + " bytes");
+            }
+            headers[headersLength++] = b;
+            if (b == '\n') {
+                int lineEnd = headersLength >= 2 && headers[headersLength - 2] == '\r' ? headersLength - 2
+                        : headersLength - 1;
+                int lineStart = lastLineStart(headersLength - 1);
+                if (lineEnd == lineStart) {
+                    if (hasHeaders(lineStart)) {
+                        contentLength = parseContentLength();
+                        frameLength = 0;
+                        state = State.BODY;
+                    }
+                    headersLength = 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * @param newline Position of the line break ending the current line
+     * @return the start of the current line
+     */
+    private int lastLineStart(int newline) {
+        for (int i = newline - 1; i >= 0; i--) {
+            if (headers[i] == '\n') {
+                return i + 1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * @param end End of the collected headers
+     * @return if a header line has been collected, not only line breaks or a boundary line
+     */
+    private boolean hasHeaders(int end) {
+        String text = new String(headers, 0, end, StandardCharsets.US_ASCII);
+        for (String line : text.split("\r?\n")) {
+            if (line.indexOf(':') > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the Content-Length of the collected headers or -1 if missing
+     */
+    private int parseContentLength() {
+        String text = new String(headers, 0, headersLength, StandardCharsets.US_ASCII);
+        for (String line : text.split("\r?\n")) {
+            int colon = line.indexOf(':');
+            if (colon > 0 && "content-length".equals(line.substring(0, colon).trim().toLowerCase(Locale.ROOT))) {
+                try {
+                    int length = Integer.parseInt(line.substring(colon + 1).trim());
+                    if (length > SynoBufferPool.MAX_SIZE) {
+                        throw new IllegalArgumentException("Frame exceeds " + SynoBufferPool.MAX_SIZE + " bytes");
+                    }
+                    return length;
+                } catch (NumberFormatException e) {
+                    return -1;
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Collects a part without Content-Length up to the next boundary
+     *
+     * @param content
+     */
+    private void parseUntilBoundary(ByteBuffer content) {
+        byte[] marker = boundary;
+        if (marker == null) {
+            throw new IllegalArgumentException("Part without Content-Length in a stream without boundary");
+        }
+        int length = content.remaining();
+        frame = pool.ensureCapacity(frame, frameLength + length, frameLength);
+        int from = Math.max(0, frameLength - marker.length + 1);
+        content.get(frame, frameLength, length);
+        frameLength += length;
+        int index = indexOf(frame, from, frameLength, marker);
+        if (index >= 0) {
+            // The boundary line is parsed again as the start of the headers of the next part
+            int rest = frameLength - index - 2;
+            byte[] remaining = rest > length ? Arrays.copyOfRange(frame, index + 2, frameLength) : null;
+            completeFrame(index);
+            if (remaining == null) {
+                content.position(content.position() - rest);
+            } else {
+                parse(ByteBuffer.wrap(remaining));
+            }
+        }
+    }
+
+    /**
+     * Passes a complete frame to the listener
+     *
+     * @param length
+     */
+    private void completeFrame(int length) {
+        frames++;
+        state = State.HEADERS;
+        contentLength = -1;
+        frameLength = 0;
+        listener.onFrame(frame, length);
+    }
+
+    /**
+     * @param contentType
+     * @return the boundary parameter of the content type or null if missing
+     */
+    private static @Nullable String getBoundary(@Nullable String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        for (String parameter : contentType.split(";")) {
+            int equals = parameter.indexOf('=');
+            if (equals > 0 && "boundary".equalsIgnoreCase(parameter.substring(0, equals).trim())) {
+                String value = parameter.substring(equals + 1).trim().replace("\"", "");
+                // Some servers repeat the dashes in the parameter
+                return value.startsWith("--") ? value.substring(2) : value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @param data
+     * @param from
+     * @param to
+     * @param pattern
+     * @return the first position of the pattern within the range or -1
+     */
+    private static int indexOf(byte[] data, int from, int to, byte[] pattern) {
+        outer: for (int i = from; i <= to - pattern.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (data[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.webapi;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link SynoMjpegRelay} shares a single MJPEG live feed of a camera among all its users: the clients of the
+ * local live feed and the MJPEG snapshot mode. The live feed is opened with the first user and closed with the last
+ * one. A watchdog closes a live feed without frames for {@value #FRAME_TIMEOUT} ms and opens it again.
+ *
+ * @author Pavion - Initial contribution
+ */
+@NonNullByDefault
+public class SynoMjpegRelay {
+
+    private final Logger logger = LoggerFactory.getLogger(SynoMjpegRelay.class);
+
+    // Time without frames after which the live feed is reopened in milliseconds
+    public static final long FRAME_TIMEOUT = 5000;
+    // Interval of the watchdog in milliseconds
+    private static final long WATCHDOG_INTERVAL = 1000;
+
+    /**
+     * Opens the live feed of the camera
+     */
+    @FunctionalInterface
+    public interface Upstream {
+        /**
+         * @param listener Listener receiving the frames
+         * @return the opened live feed
+         * @throws WebApiException if the live feed is not available
+         */
+        SynoMjpegStream open(SynoMjpegParser.FrameListener listener) throws WebApiException;
+    }
+
+    /**
+     * A client receiving a copy of every frame, the copy is shared by all clients
+     */
+    public interface Client {
+        /**
+         * Passes a frame to the client, called on the thread receiving the live feed and therefore not blocking
+         *
+         * @param frame
+         */
+        void offer(byte[] frame);
+
+        /**
+         * Closes the client, called when the client is disconnected or the relay closed
+         */
+        void close();
+    }
+
+    private final String cameraId;
+    private final Upstream upstream;
+    private final ScheduledExecutorService scheduler;
+    private final Set<Client> clients = ConcurrentHashMap.newKeySet();
+    private final Set<SynoMjpegParser.FrameListener> listeners = ConcurrentHashMap.newKeySet();
+    private @Nullable SynoMjpegStream stream;
+    private @Nullable ScheduledFuture<?> watchdog;
+    private volatile long lastFrame = 0;
+
+    /**
+     * @param cameraId
+     * @param upstream Opens the live feed
+     * @param scheduler Scheduler running the watchdog
+     */
+    public SynoMjpegRelay(String cameraId, Upstream upstream, ScheduledExecutorService scheduler) {
+        this.cameraId = cameraId;
+        this.upstream = upstream;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Adds a client, opening the live feed if needed
+     *
+     * @param client
+     * @throws WebApiException if the live feed is not available
+     */
+    public synchronized void connect(Client client) throws WebApiException {
+        clients.add(client);
+        try {
+            open();
+        } catch (WebApiException e) {
+            clients.remove(client);
+            closeIfUnused();
+            throw e;
+        }
+        logger.debug("Camera {}: relay client connected, {} clients", cameraId, clients.size());
+    }
+
+    /**
+     * Removes a client, closing the live feed with the last user
+     *
+     * @param client
+     */
+    public synchronized void disconnect(Client client) {
+        if (clients.remove(client)) {
+            client.close();
+            logger.debug("Camera {}: relay client {} disconnected, {} clients", cameraId, client, clients.size());
+        }
+        closeIfUnused();
+    }
+
+    /**
+     * Adds a listener receiving the frames without copy, opening the live feed if needed
+     *
+     * @param listener
+     * @throws WebApiException if the live feed is not available
+     */
+    public synchronized void addListener(SynoMjpegParser.FrameListener listener) throws WebApiException {
+        listeners.add(listener);
+        try {
+            open();
+        } catch (WebApiException e) {
+            listeners.remove(listener);
+            closeIfUnused();
+            throw e;
+        }
+    }
+
+    /**
+     * Removes a listener, closing the live feed with the last user
+     *
+     * @param listener
+     */
+    public synchronized void removeListener(SynoMjpegParser.FrameListener listener) {
+        listeners.remove(listener);
+        closeIfUnused();
+    }
+
+    /**
+     * Closes all clients and the live feed
+     */
+    public synchronized void close() {
+        for (Client client : clients) {
+            client.close();
+        }
+        clients.clear();
+        listeners.clear();
+        closeIfUnused();
+    }
+
+    /**
+     * Opens the live feed unless open and starts the watchdog
+     *
+     * @throws WebApiException if the live feed is not available
+     */
+    private void open() throws WebApiException {
+        SynoMjpegStream current = stream;
+        if (current == null || !current.isOpen()) {
+            lastFrame = System.currentTimeMillis();
+            stream = upstream.open(this::onFrame);
+            logger.debug("Camera {}: relay live feed opened", cameraId);
+        }
+        if (watchdog == null) {
+            watchdog = scheduler.scheduleWithFixedDelay(this::check, WATCHDOG_INTERVAL, WATCHDOG_INTERVAL,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Closes a live feed without frames for too long or lost, and opens it again
+     */
+    private synchronized void check() {
+        if (watchdog == null || System.currentTimeMillis() - lastFrame <= FRAME_TIMEOUT) {
+            return;
+        }
+        SynoMjpegStream current = stream;
+        if (current != null) {
+            logger.debug("Camera {}: no frames for {} ms, reopening relay live feed", cameraId, FRAME_TIMEOUT);
+            current.close();
+            stream = null;
+        }
+        try {
+            open();
+        } catch (WebApiException e) {
+            logger.debug("Camera {}: relay live feed not available: {}", cameraId, e.getMessage());
+        }
+    }
+
+    /**
+     * Closes the live feed and stops the watchdog if there are no users anymore
+     */
+    private void closeIfUnused() {
+        if (!clients.isEmpty() || !listeners.isEmpty()) {
+            return;
+        }
+        ScheduledFuture<?> job = watchdog;
+        if (job != null) {
+            job.cancel(false);
+            watchdog = null;
+        }
+        SynoMjpegStream current = stream;
+        if (current != null) {
+            current.close();
+            stream = null;
+            logger.debug("Camera {}: relay live feed closed", cameraId);
+        }
+    }
+
+    /**
+     * Passes a frame to all users, the frame is copied once for all clients
+     *
+     * @param buffer
+     * @param length
+     */
+    private void onFrame(byte[] buffer, int length) {
+        lastFrame = System.currentTimeMillis();
+        for (SynoMjpegParser.FrameListener listener : listeners) {
+            listener.onFrame(buffer, length);
+        }
+        if (!clients.isEmpty()) {
+            byte[] frame = Arrays.copyOf(buffer, length);
+            for (Client client : clients) {
+                client.offer(frame);
+            }
+        }
+    }
+}
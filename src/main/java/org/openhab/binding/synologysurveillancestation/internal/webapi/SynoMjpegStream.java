@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.webapi;
+
+import java.nio.ByteBuffer;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.api.Response;
+import org.eclipse.jetty.client.api.Result;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link SynoMjpegStream} keeps a persistent connection to the MJPEG live feed of a camera and passes its frames
+ * to a listener as they arrive. A closed or failed stream is not reopened, a new stream has to be created instead.
+ *
+ * @author Pavion - Initial contribution
+ */
+@NonNullByDefault
+public class SynoMjpegStream {
+
+    private final Logger logger = LoggerFactory.getLogger(SynoMjpegStream.class);
+
+    private final Request request;
+    private final SynoBufferPool pool;
+    private final SynoMjpegParser.FrameListener listener;
+    private volatile boolean open = false;
+    private volatile @Nullable SynoMjpegParser parser;
+
+    /**
+     * @param request Request of the live feed
+     * @param pool Pool providing the frame buffer
+     * @param listener Listener receiving the frames
+     */
+    public SynoMjpegStream(Request request, SynoBufferPool pool, SynoMjpegParser.FrameListener listener) {
+        this.request = request;
+        this.pool = pool;
+        this.listener = listener;
+    }
+
+    /**
+     * Sends the request of the live feed, frames are passed on the thread receiving them
+     */
+    public void open() {
+        open = true;
+        request.send(new Response.Listener.Adapter() {
+            @Override
+            public void onHeaders(@Nullable Response response) {
+                if (response == null) {
+                    return;
+                }
+                if (response.getStatus() != HttpStatus.OK_200) {
+                    response.abort(new WebApiException("Live feed failed with HTTP status " + response.getStatus()));
+                    return;
+                }
+                parser = new SynoMjpegParser(response.getHeaders().get(HttpHeader.CONTENT_TYPE), pool, listener);
+            }
+
+            @Override
+            public void onContent(@Nullable Response response, @Nullable ByteBuffer content) {
+                SynoMjpegParser current = parser;
+                if (response == null || content == null || current == null) {
+                    return;
+                }
+                try {
+                    current.parse(content);
+                } catch (IllegalArgumentException e) {
+                    response.abort(new WebApiException(e));
+                }
+            }
+
+            @Override
+            public void onComplete(@Nullable Result result) {
+                boolean closed = !open;
+                open = false;
+                SynoMjpegParser current = parser;
+                parser = null;
+                if (current != null) {
+                    current.close();
+                }
+                if (!closed && result != null && result.isFailed()) {
+                    Throwable failure = result.getFailure();
+                    logger.debug("Live feed {} failed after {} frames: {}", request.getURI().getPath(),
+                            current == null ? 0 : current.getFrames(), failure == null ? "" : failure.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * Closes the connection of the live feed
+     */
+    public void close() {
+        if (open) {
+            open = false;
+            request.abort(new WebApiException("Live feed closed"));
+        }
+    }
+
+    /**
+     * @return if the live feed is connected or connecting
+     */
+    public boolean isOpen() {
+        return open;
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.webapi;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link SynoRequestCoalescer} lets concurrent identical read requests to a Surveillance Station share a single
+ * HTTP round trip and a single parsed response. A request joins a running request with the same key, otherwise it is
+ * started and published under its key until it completes. Every caller gets its own future; once all callers have
+ * cancelled theirs, the shared request is cancelled as well.
+ *
+ * @author Pavion - Initial contribution
+ */
+@NonNullByDefault
+public class SynoRequestCoalescer {
+
+    private final Logger logger = LoggerFactory.getLogger(SynoRequestCoalescer.class);
+    private final Map<String, Shared> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * A running request with the number of callers still waiting for it
+     */
+    private static class Shared {
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+        private @Nullable CompletableFuture<?> started;
+        private int waiters = 0;
+    }
+
+    /**
+     * Starts a request or joins a running request with the same key
+     *
+     * @param key Key identifying the request (API, version, method and parameters)
+     * @param request Supplier starting the request
+     * @return future completed with the (shared) result of the request, cancelling it abandons the request
+     */
+    @SuppressWarnings("unchecked")
+    public <R> CompletableFuture<R> coalesce(String key, Supplier<CompletableFuture<R>> request) {
+        Shared shared;
+        boolean first;
+        synchronized (this) {
+            Shared running = inFlight.get(key);
+            first = running == null;
+            shared = running != null ? running : new Shared();
+            if (first) {
+                inFlight.put(key, shared);
+            }
+            shared.waiters++;
+        }
+
+        if (first) {
+            CompletableFuture<R> started;
+            try {
+                started = request.get();
+            } catch (RuntimeException e) {
+                started = CompletableFuture.failedFuture(e);
+            }
+            synchronized (this) {
+                shared.started = started;
+            }
+            started.whenComplete((result, failure) -> {
+                inFlight.remove(key, shared);
+                if (failure != null) {
+                    shared.result.completeExceptionally(failure);
+                } else {
+                    shared.result.complete(result);
+                }
+            });
+        } else {
+            logger.trace("Joining running request {}", key);
+        }
+
+        CompletableFuture<R> waiter = new CompletableFuture<>();
+        shared.result.whenComplete((result, failure) -> {
+            if (failure != null) {
+                waiter.completeExceptionally(failure);
+            } else {
+                waiter.complete((R) result);
+            }
+        });
+        waiter.whenComplete((result, failure) -> {
+            if (waiter.isCancelled()) {
+                leave(key, shared);
+            }
+        });
+        return waiter;
+    }
+
+    /**
+     * Removes a caller which has cancelled its future, the request is cancelled with the last caller
+     *
+     * @param key
+     * @param shared
+     */
+    private void leave(String key, Shared shared) {
+        CompletableFuture<?> started;
+        synchronized (this) {
+            if (--shared.waiters > 0 || shared.result.isDone()) {
+                return;
+            }
+            inFlight.remove(key, shared);
+            started = shared.started;
+        }
+        logger.trace("Request {} abandoned by all callers", key);
+        if (started != null) {
+            started.cancel(false);
+        }
+    }
+
+    /**
+     * @return the number of running requests which can be joined
+     */
+    public int getInFlight() {
+        return inFlight.size();
+    }
+}
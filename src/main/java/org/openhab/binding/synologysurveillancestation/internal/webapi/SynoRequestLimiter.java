@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.webapi;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link SynoRequestLimiter} limits the number of requests in flight to a single Surveillance Station. Requests
+ * exceeding the limit are queued in lanes by {@link SynoRequestPriority} and started as soon as a running request
+ * completes, highest priority lane first and in order of arrival within a lane. A request waiting longer than
+ * {@link #MAX_WAIT} is started before requests of higher lanes, so lower lanes keep making progress under steady
+ * load. No thread is blocked while waiting. Requests cancelled while queued, e.g. by a caller which has timed out, are
+ * dropped without being sent.
+ *
+ * @author Pavion - Initial contribution
+ */
+@NonNullByDefault
+public class SynoRequestLimiter {
+
+    // Time after which a queued request is started regardless of its lane (ns)
+    static final long MAX_WAIT = TimeUnit.SECONDS.toNanos(2);
+
+    private final Map<SynoRequestPriority, Queue<Queued>> lanes = new EnumMap<>(SynoRequestPriority.class);
+    private int maxInFlight;
+    private int inFlight = 0;
+
+    /**
+     * Queued request with its time of arrival
+     */
+    private static class Queued {
+        private final Runnable start;
+        private final CompletableFuture<?> future;
+        private final long time = System.nanoTime();
+
+        private Queued(Runnable start, CompletableFuture<?> future) {
+            this.start = start;
+            this.future = future;
+        }
+    }
+
+    /**
+     * @param maxInFlight Maximum number of concurrent requests
+     */
+    public SynoRequestLimiter(int maxInFlight) {
+        this.maxInFlight = Math.max(1, maxInFlight);
+        for (SynoRequestPriority priority : SynoRequestPriority.values()) {
+            lanes.put(priority, new ArrayDeque<>());
+        }
+    }
+
+    /**
+     * Starts a request as soon as the limit allows it
+     *
+     * @param priority Lane of the request
+     * @param request Supplier starting the request
+     * @return future completed with the result of the request
+     */
+    public <R> CompletableFuture<R> submit(SynoRequestPriority priority, Supplier<CompletableFuture<R>> request) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        Runnable start = () -> {
+            if (future.isDone()) {
+                // Cancelled after being taken from the queue
+                release();
+                return;
+            }
+            CompletableFuture<R> started;
+            try {
+                started = request.get();
+            } catch (RuntimeException e) {
+                started = CompletableFuture.failedFuture(e);
+            }
+            started.whenComplete((result, failure) -> {
+                release();
+                if (failure != null) {
+                    future.completeExceptionally(failure);
+                } else {
+                    future.complete(result);
+                }
+            });
+        };
+
+        boolean startNow;
+        synchronized (this) {
+            startNow = inFlight < maxInFlight;
+            if (startNow) {
+                inFlight++;
+            } else {
+                lanes.get(priority).add(new Queued(start, future));
+            }
+        }
+        if (startNow) {
+            start.run();
+        }
+        return future;
+    }
+
+    /**
+     * Frees a slot and starts the next queued requests
+     */
+    private void release() {
+        synchronized (this) {
+            inFlight--;
+        }
+        drain();
+    }
+
+    /**
+     * Starts queued requests as long as slots are free
+     */
+    private void drain() {
+        Runnable next;
+        synchronized (this) {
+            next = poll();
+        }
+        while (next != null) {
+            next.run();
+            synchronized (this) {
+                next = poll();
+            }
+        }
+    }
+
+    /**
+     * Takes the next queued request if a slot is free: the longest waiting request if it has waited longer than
+     * {@link #MAX_WAIT}, otherwise the first request of the highest priority lane. Must be called holding the lock.
+     *
+     * @return the next request or null
+     */
+    private @Nullable Runnable poll() {
+        if (inFlight >= maxInFlight) {
+            return null;
+        }
+        long now = System.nanoTime();
+        @Nullable
+        Queue<Queued> next = null;
+        @Nullable
+        Queue<Queued> aged = null;
+        long agedTime = 0;
+        for (Queue<Queued> lane : lanes.values()) {
+            Queued head = lane.peek();
+            while (head != null && head.future.isDone()) {
+                lane.poll();
+                head = lane.peek();
+            }
+            if (head != null) {
+                if (next == null) {
+                    next = lane;
+                }
+                if (now - head.time > MAX_WAIT && (aged == null || head.time - agedTime < 0)) {
+                    aged = lane;
+                    agedTime = head.time;
+                }
+            }
+        }
+        if (aged != null) {
+            next = aged;
+        }
+        Queued queued = next == null ? null : next.poll();
+        if (queued == null) {
+            return null;
+        }
+        inFlight++;
+        return queued.start;
+    }
+
+    /**
+     * Changes the limit, queued requests are started if the limit has been raised
+     *
+     * @param maxInFlight Maximum number of concurrent requests
+     */
+    public void setMaxInFlight(int maxInFlight) {
+        synchronized (this) {
+            this.maxInFlight = Math.max(1, maxInFlight);
+        }
+        drain();
+    }
+
+    /**
+     * @return the maximum number of concurrent requests
+     */
+    public synchronized int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * @return the number of running requests
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * @param priority Lane
+     * @return the number of queued requests of a lane
+     */
+    public synchronized int getQueued(SynoRequestPriority priority) {
+        return lanes.get(priority).size();
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.webapi;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link SynoRequestPriority} defines the lanes of the {@link SynoRequestLimiter}, highest priority first
+ *
+ * @author Pavion - Initial contribution
+ */
+@NonNullByDefault
+public enum SynoRequestPriority {
+    /**
+     * Interactive commands (PTZ, recording, home mode, ...) and authentication
+     */
+    COMMAND,
+    /**
+     * Background polling of states and events
+     */
+    POLL,
+    /**
+     * Snapshots
+     */
+    SNAPSHOT,
+    /**
+     * Camera discovery
+     */
+    DISCOVERY;
+}
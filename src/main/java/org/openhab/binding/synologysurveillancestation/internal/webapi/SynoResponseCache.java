@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.webapi;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link SynoResponseCache} caches responses of rarely changing read requests (presets, patrols, live URIs,
+ * motion detection parameters) for a limited time. The least recently used entry is evicted if the cache is full.
+ * Entries are tagged with their camera ID to be invalidated as soon as a command changes the camera. Each
+ * invalidation starts a new epoch of the camera; responses of requests sent in an earlier epoch are not cached, so a
+ * read overtaken by a command cannot store its stale response.
+ *
+ * @author Pavion - Initial contribution
+ */
+@NonNullByDefault
+public class SynoResponseCache {
+
+    private static final int MAX_ENTRIES = 256;
+
+    private final int maxEntries;
+    private final Map<String, CachedResponse> entries;
+    private final Map<String, Long> epochs = new HashMap<>();
+    private long epoch = 0; // Last epoch started by an invalidation
+    private long clearEpoch = 0; // Epoch started by the last removal of all responses
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Cached response
+     */
+    private static class CachedResponse {
+        private final Object value;
+        private final String cameraId;
+        private final long expires;
+
+        private CachedResponse(Object value, String cameraId, long expires) {
+            this.value = value;
+            this.cameraId = cameraId;
+            this.expires = expires;
+        }
+    }
+
+    public SynoResponseCache() {
+        this(MAX_ENTRIES);
+    }
+
+    /**
+     * @param maxEntries Maximum number of cached responses
+     */
+    @SuppressWarnings("serial")
+    public SynoResponseCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.@Nullable Entry<String, CachedResponse> eldest) {
+                return size() > SynoResponseCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * @param key Key of the request
+     * @return the cached response or null if missing or expired
+     */
+    public synchronized @Nullable Object get(String key) {
+        CachedResponse entry = entries.get(key);
+        if (entry != null && entry.expires > System.currentTimeMillis()) {
+            hits.incrementAndGet();
+            return entry.value;
+        }
+        if (entry != null) {
+            entries.remove(key);
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * @param cameraId Camera ID (or comma separated IDs) of a request, empty if none
+     * @return the current epoch, to be read before the request is sent
+     */
+    public synchronized long getEpoch(String cameraId) {
+        long current = clearEpoch;
+        for (String id : cameraId.split(",")) {
+            current = Math.max(current, epochs.getOrDefault(id, 0L));
+        }
+        return current;
+    }
+
+    /**
+     * Caches a response unless its cameras have been invalidated since the request was sent
+     *
+     * @param key Key of the request
+     * @param cameraId Camera the response belongs to, empty if none
+     * @param value Response
+     * @param ttl Time to live in milliseconds
+     * @param epoch Epoch read before the request was sent
+     */
+    public synchronized void put(String key, String cameraId, Object value, long ttl, long epoch) {
+        if (getEpoch(cameraId) == epoch) {
+            entries.put(key, new CachedResponse(value, cameraId, System.currentTimeMillis() + ttl));
+        }
+    }
+
+    /**
+     * Removes all responses of a camera
+     *
+     * @param cameraId
+     */
+    public synchronized void invalidate(String cameraId) {
+        epochs.put(cameraId, ++epoch);
+        Iterator<CachedResponse> it = entries.values().iterator();
+        while (it.hasNext()) {
+            if (List.of(it.next().cameraId.split(",")).contains(cameraId)) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Removes all responses
+     */
+    public synchronized void clear() {
+        clearEpoch = ++epoch;
+        entries.clear();
+    }
+
+    /**
+     * @return the number of cached responses
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return the number of requests answered from the cache
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of requests not found in the cache
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.webapi;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+/**
+ * The {@link SynoSnapshot} is the latest snapshot of a camera, identified by the hash of its content
+ *
+ * @author Pavion - Initial contribution
+ */
+@NonNullByDefault
+public class SynoSnapshot {
+
+    public static final String CONTENT_TYPE = "image/jpeg";
+
+    private final byte[] content;
+    private final String etag;
+    private final long timestamp;
+
+    /**
+     * @param content JPEG image, not to be modified afterwards
+     * @param hash Hash of the image
+     */
+    public SynoSnapshot(byte[] content, long hash) {
+        this.content = content;
+        this.etag = Long.toHexString(hash);
+        this.timestamp = System.currentTimeMillis();
+    }
+
+    /**
+     * @return the JPEG image, not to be modified
+     */
+    public byte[] getContent() {
+        return content;
+    }
+
+    /**
+     * @return entity tag of the image, without quotes
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    /**
+     * @return time the image has been received (ms)
+     */
+    public long getTimestamp() {
+        return timestamp;
+    }
+}
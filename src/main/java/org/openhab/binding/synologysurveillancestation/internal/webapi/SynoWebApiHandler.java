@@ -19,6 +19,7 @@ import org.eclipse.jetty.client.HttpClient;
 import org.openhab.binding.synologysurveillancestation.internal.SynoConfig;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.error.WebApiAuthErrorCodes;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiAuth;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiBatch;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiCamera;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiCameraEvent;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.request.SynoApiEvent;
@@ -45,22 +46,28 @@ public class SynoWebApiHandler implements SynoWebApi {
     private String sessionID = "";
 
     private final HashMap<Class<?>, SynoApiRequest<?>> api = new HashMap<>();
+    private final SynoRequestLimiter limiter;
+    private final SynoRequestCoalescer coalescer = new SynoRequestCoalescer();
+    private final SynoResponseCache cache = new SynoResponseCache();
 
     /**
      * @param config
      */
     public SynoWebApiHandler(SynoConfig config, HttpClient httpClient) {
         this.config = config;
-        api.put(SynoApiAuth.class, new SynoApiAuth(config, httpClient));
-        api.put(SynoApiInfo.class, new SynoApiInfo(config, httpClient));
-        api.put(SynoApiCamera.class, new SynoApiCamera(config, httpClient));
-        api.put(SynoApiEvent.class, new SynoApiEvent(config, httpClient));
-        api.put(SynoApiHomeMode.class, new SynoApiHomeMode(config, httpClient));
-        api.put(SynoApiExternalRecording.class, new SynoApiExternalRecording(config, httpClient));
-        api.put(SynoApiPTZ.class, new SynoApiPTZ(config, httpClient));
-        api.put(SynoApiLiveUri.class, new SynoApiLiveUri(config, httpClient));
-        api.put(SynoApiExternalEvent.class, new SynoApiExternalEvent(config, httpClient));
-        api.put(SynoApiCameraEvent.class, new SynoApiCameraEvent(config, httpClient));
+        this.limiter = new SynoRequestLimiter(config.getMaxRequests());
+        api.put(SynoApiAuth.class, new SynoApiAuth(config, httpClient, limiter, coalescer, cache));
+        api.put(SynoApiInfo.class, new SynoApiInfo(config, httpClient, limiter, coalescer, cache));
+        api.put(SynoApiCamera.class, new SynoApiCamera(config, httpClient, limiter, coalescer, cache));
+        api.put(SynoApiEvent.class, new SynoApiEvent(config, httpClient, limiter, coalescer, cache));
+        api.put(SynoApiHomeMode.class, new SynoApiHomeMode(config, httpClient, limiter, coalescer, cache));
+        api.put(SynoApiExternalRecording.class,
+                new SynoApiExternalRecording(config, httpClient, limiter, coalescer, cache));
+        api.put(SynoApiPTZ.class, new SynoApiPTZ(config, httpClient, limiter, coalescer, cache));
+        api.put(SynoApiLiveUri.class, new SynoApiLiveUri(config, httpClient, limiter, coalescer, cache));
+        api.put(SynoApiExternalEvent.class, new SynoApiExternalEvent(config, httpClient, limiter, coalescer, cache));
+        api.put(SynoApiCameraEvent.class, new SynoApiCameraEvent(config, httpClient, limiter, coalescer, cache));
+        api.put(SynoApiBatch.class, new SynoApiBatch(config, httpClient, limiter, coalescer, cache));
     }
 
     /**
@@ -75,6 +82,7 @@ public class SynoWebApiHandler implements SynoWebApi {
      */
     public void setConfig(SynoConfig config) {
         this.config = config;
+        limiter.setMaxInFlight(config.getMaxRequests());
         for (SynoApiRequest<?> r : api.values()) {
             r.setConfig(config);
         }
@@ -85,6 +93,7 @@ public class SynoWebApiHandler implements SynoWebApi {
      */
     public void setSessionID(String sessionID) {
         this.sessionID = sessionID;
+        cache.clear();
         for (SynoApiRequest<?> r : api.values()) {
             r.setSessionId(sessionID);
         }
@@ -136,6 +145,40 @@ public class SynoWebApiHandler implements SynoWebApi {
         return (!this.sessionID.isBlank());
     }
 
+    /**
+     * @return the request limiter of the Station
+     */
+    public SynoRequestLimiter getLimiter() {
+        return limiter;
+    }
+
+    /**
+     * @return the occupancy of the request limiter and the use of the response cache for the periodic statistics log
+     */
+    public String getStatistics() {
+        StringBuilder queued = new StringBuilder();
+        for (SynoRequestPriority priority : SynoRequestPriority.values()) {
+            queued.append(queued.length() > 0 ? ", " : "").append(priority).append(' ')
+                    .append(limiter.getQueued(priority));
+        }
+        return String.format("%d requests in flight, queued %s, %d cached responses, %d cache hits, %d misses",
+                limiter.getInFlight(), queued, cache.size(), cache.getHits(), cache.getMisses());
+    }
+
+    /**
+     * @return the coalescer of identical read requests to the Station
+     */
+    public SynoRequestCoalescer getCoalescer() {
+        return coalescer;
+    }
+
+    /**
+     * @return the cache of rarely changing responses of the Station
+     */
+    public SynoResponseCache getCache() {
+        return cache;
+    }
+
     /**
      * @return the apiCameraEvent
      */
@@ -199,6 +242,13 @@ public class SynoWebApiHandler implements SynoWebApi {
         return getApi(SynoApiExternalEvent.class);
     }
 
+    /**
+     * @return the apiBatch
+     */
+    public SynoApiBatch getApiBatch() {
+        return getApi(SynoApiBatch.class);
+    }
+
     /**
      * @return the apiLiveUri
      */
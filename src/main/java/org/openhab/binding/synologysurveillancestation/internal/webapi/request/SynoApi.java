@@ -64,7 +64,12 @@ public interface SynoApi {
     public static final String METHOD_MOTIONENUM = "MotionEnum";
     public static final String METHOD_MDPARAMSAVE = "MDParamSave";
 
+    public static final String METHOD_REQUEST = "request";
+
     public static final int CONNECTION_TIMEOUT = 5000;
 
+    // Maximum time of a request to the Station and of waiting for it (ms)
+    public static final int REQUEST_TIMEOUT = 20000;
+
     public SynoApiConfig getApiConfig();
 }
@@ -18,8 +18,12 @@ import java.util.Map;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.client.HttpClient;
 import org.openhab.binding.synologysurveillancestation.internal.SynoConfig;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoRequestCoalescer;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoRequestLimiter;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoResponseCache;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.response.AuthResponse;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.response.SynoResponseCodec;
 
 /**
  *
@@ -41,12 +45,15 @@ public class SynoApiAuth extends SynoApiRequest<AuthResponse> {
     // API configuration
     private static final String API_NAME = "SYNO.API.Auth";
     private static final SynoApiConfig API_CONFIG = new SynoApiConfig(API_NAME, API_VERSION_06, API_SCRIPT_AUTH);
+    private static final SynoResponseCodec<AuthResponse> CODEC =
+            SynoResponseCodec.of(AuthResponse.class, AuthResponse::new);
 
     /**
      * @param config
      */
-    public SynoApiAuth(SynoConfig config, HttpClient httpClient) {
-        super(API_CONFIG, config, httpClient);
+    public SynoApiAuth(SynoConfig config, HttpClient httpClient, SynoRequestLimiter limiter,
+            SynoRequestCoalescer coalescer, SynoResponseCache cache) {
+        super(API_CONFIG, CODEC, config, httpClient, limiter, coalescer, cache);
     }
 
     /**
@@ -0,0 +1,261 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.webapi.request;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.util.FormContentProvider;
+import org.eclipse.jetty.http.HttpMethod;
+import org.eclipse.jetty.util.Fields;
+import org.openhab.binding.synologysurveillancestation.internal.SynoConfig;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoRequestCoalescer;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoRequestLimiter;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoRequestPriority;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoResponseCache;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.error.WebApiAuthErrorCodes;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.response.SimpleResponse;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.response.SynoApiResponse;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.response.SynoResponseCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * API request SYNO.Entry.Request, which executes several API methods with a single compound request
+ *
+ * @author Pavion - Initial contribution
+ */
+@NonNullByDefault
+public class SynoApiBatch extends SynoApiRequest<SimpleResponse> {
+    private final Logger logger = LoggerFactory.getLogger(SynoApiBatch.class);
+
+    // API configuration
+    private static final String API_NAME = "SYNO.Entry.Request";
+    private static final SynoApiConfig API_CONFIG = new SynoApiConfig(API_NAME, API_VERSION_01, API_SCRIPT_ENTRY);
+    private static final SynoResponseCodec<SimpleResponse> CODEC =
+            SynoResponseCodec.of(SimpleResponse.class, SimpleResponse::new);
+
+    // Error codes of unknown APIs or methods
+    private static final int ERROR_NO_API = 102;
+    private static final int ERROR_NO_METHOD = 103;
+
+    private volatile boolean supported = true;
+
+    /**
+     * @param config
+     */
+    public SynoApiBatch(SynoConfig config, HttpClient httpClient, SynoRequestLimiter limiter,
+            SynoRequestCoalescer coalescer, SynoResponseCache cache) {
+        super(API_CONFIG, CODEC, config, httpClient, limiter, coalescer, cache);
+    }
+
+    /**
+     * The compound parameter grows with every request of a batch, so the parameters are sent as form body instead of
+     * the query string
+     */
+    @Override
+    protected Request getWebApiUrl(String method, Map<String, String> params) throws WebApiException {
+        Fields fields = new Fields();
+        for (Map.Entry<String, String> param : params.entrySet()) {
+            fields.put(param.getKey(), param.getValue());
+        }
+        return super.getWebApiUrl(method, Map.of()).method(HttpMethod.POST).content(new FormContentProvider(fields));
+    }
+
+    /**
+     * @return a new empty batch
+     */
+    public Batch newBatch() {
+        return new Batch();
+    }
+
+    /**
+     * Single request of a batch
+     *
+     * @param <R> Response type
+     */
+    private static class Item<R extends SynoApiResponse> {
+        private final SynoApiRequest<R> api;
+        private final String method;
+        private final Map<String, String> params;
+        private final CompletableFuture<R> future = new CompletableFuture<>();
+
+        private Item(SynoApiRequest<R> api, String method, Map<String, String> params) {
+            this.api = api;
+            this.method = method;
+            this.params = params;
+        }
+
+        /**
+         * @return the request as element of the compound parameter
+         */
+        private JsonObject toJson() {
+            JsonObject json = new JsonObject();
+            json.addProperty("api", api.getApiConfig().getName());
+            json.addProperty("method", method);
+            try {
+                json.addProperty("version", Integer.parseInt(api.getApiConfig().getVersion()));
+            } catch (NumberFormatException e) {
+                json.addProperty("version", api.getApiConfig().getVersion());
+            }
+            for (Map.Entry<String, String> param : params.entrySet()) {
+                json.addProperty(param.getKey(), param.getValue());
+            }
+            return json;
+        }
+
+        /**
+         * Completes the request from its part of the compound result
+         *
+         * @param result
+         */
+        private void complete(JsonElement result) {
+            try {
+                future.complete(api.createResponse(result.toString()));
+            } catch (WebApiException e) {
+                future.completeExceptionally(e);
+            }
+        }
+
+        /**
+         * Sends the request on its own
+         */
+        private void send() {
+            api.callApiAsync(method, params).whenComplete((response, failure) -> {
+                if (failure != null) {
+                    future.completeExceptionally(failure);
+                } else {
+                    future.complete(response);
+                }
+            });
+        }
+    }
+
+    /**
+     * Collects requests to be executed with a single compound request
+     */
+    public class Batch {
+        private final List<Item<?>> items = new ArrayList<>();
+
+        private Batch() {
+        }
+
+        /**
+         * Adds a request to this batch
+         *
+         * @param api API of the request
+         * @param method
+         * @param params
+         * @return future completed with the response once the batch has been executed
+         */
+        <R extends SynoApiResponse> CompletableFuture<R> add(SynoApiRequest<R> api, String method,
+                Map<String, String> params) {
+            Item<R> item = new Item<>(api, method, params);
+            items.add(item);
+            return item.future;
+        }
+
+        /**
+         * @return the number of requests in this batch
+         */
+        public int size() {
+            return items.size();
+        }
+
+        /**
+         * Sends all requests of this batch. A single request or a Station not supporting compound requests is
+         * served with separate requests.
+         *
+         * @return future completed when all requests have been completed
+         */
+        public CompletableFuture<Void> execute() {
+            List<Item<?>> batch = new ArrayList<>(items);
+            items.clear();
+            if (batch.size() == 1 || (!batch.isEmpty() && !supported)) {
+                for (Item<?> item : batch) {
+                    item.send();
+                }
+            } else if (!batch.isEmpty()) {
+                JsonArray compound = new JsonArray();
+                for (Item<?> item : batch) {
+                    compound.add(item.toJson());
+                }
+                Map<String, String> params = new HashMap<>();
+                params.put("stop_when_error", API_FALSE);
+                params.put("compound", compound.toString());
+
+                callApiAsync(METHOD_REQUEST, params, SynoRequestPriority.POLL)
+                        .whenComplete((response, failure) -> split(batch, response, failure));
+            }
+            return CompletableFuture.allOf(batch.stream().map(item -> item.future).toArray(CompletableFuture[]::new));
+        }
+
+        /**
+         * Splits the compound result into the responses of the single requests
+         *
+         * @param batch
+         * @param response
+         * @param failure
+         */
+        private void split(List<Item<?>> batch, @Nullable SimpleResponse response, @Nullable Throwable failure) {
+            if (failure != null || response == null) {
+                Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                        ? failure.getCause()
+                        : failure;
+                if (cause == null) {
+                    cause = new WebApiException("Compound request failed");
+                }
+                for (Item<?> item : batch) {
+                    item.future.completeExceptionally(cause);
+                }
+            } else if (!response.isSuccess()) {
+                int errorcode = response.getErrorcode();
+                if (errorcode == ERROR_NO_API || errorcode == ERROR_NO_METHOD) {
+                    logger.debug("Compound requests not supported by Station, sending requests separately");
+                    supported = false;
+                    for (Item<?> item : batch) {
+                        item.send();
+                    }
+                } else {
+                    for (Item<?> item : batch) {
+                        item.future.completeExceptionally(
+                                new WebApiException(WebApiAuthErrorCodes.getByCode(errorcode)));
+                    }
+                }
+            } else {
+                JsonArray result = response.getData().getAsJsonArray("result");
+                for (int i = 0; i < batch.size(); i++) {
+                    if (result != null && i < result.size()) {
+                        batch.get(i).complete(result.get(i));
+                    } else {
+                        batch.get(i).future
+                                .completeExceptionally(new WebApiException("Missing result of compound request"));
+                    }
+                }
+            }
+        }
+    }
+}
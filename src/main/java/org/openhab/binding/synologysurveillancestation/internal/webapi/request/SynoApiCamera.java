@@ -16,18 +16,23 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ExecutionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.TimeoutException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.client.HttpClient;
-import org.eclipse.jetty.client.api.ContentResponse;
 import org.eclipse.jetty.client.api.Request;
 import org.openhab.binding.synologysurveillancestation.internal.SynoConfig;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoBufferPool;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoRequestCoalescer;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoRequestLimiter;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoRequestPriority;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoResponseCache;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.error.WebApiAuthErrorCodes;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.response.CameraResponse;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.response.SynoResponseCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -67,34 +72,53 @@ public class SynoApiCamera extends SynoApiRequest<CameraResponse> {
     // API configuration
     private static final String API_NAME = "SYNO.SurveillanceStation.Camera";
     private static final SynoApiConfig API_CONFIG = new SynoApiConfig(API_NAME, API_VERSION_08, API_SCRIPT_ENTRY);
+    private static final SynoResponseCodec<CameraResponse> CODEC =
+            SynoResponseCodec.streaming(CameraResponse.class, CameraResponse::new);
+
+    // Buffers receiving snapshots of all cameras of the Station
+    private final SynoBufferPool snapshotBuffers = new SynoBufferPool();
 
     /**
      * @param config
      */
-    public SynoApiCamera(SynoConfig config, HttpClient httpClient) {
-        super(API_CONFIG, config, httpClient);
+    public SynoApiCamera(SynoConfig config, HttpClient httpClient, SynoRequestLimiter limiter,
+            SynoRequestCoalescer coalescer, SynoResponseCache cache) {
+        super(API_CONFIG, CODEC, config, httpClient, limiter, coalescer, cache);
     }
 
     /**
-     * Calls the passed method for all cameras.
+     * Calls the passed method.
      *
      * @param method
+     * @param cameraId
      * @return
      * @throws WebApiException
      */
-    private CameraResponse call(String method) throws WebApiException {
-        return call(method, "");
+    private CameraResponse call(String method, String cameraId) throws WebApiException {
+        return call(method, cameraId, SynoRequestPriority.POLL);
     }
 
     /**
-     * Calls the passed method.
+     * Calls the passed method in the given lane of the request limiter.
      *
      * @param method
      * @param cameraId
+     * @param priority
      * @return
      * @throws WebApiException
      */
-    private CameraResponse call(String method, String cameraId) throws WebApiException {
+    private CameraResponse call(String method, String cameraId, SynoRequestPriority priority)
+            throws WebApiException {
+        return callApi(method, getParams(cameraId), priority);
+    }
+
+    /**
+     * Parameters of the camera list and info methods
+     *
+     * @param cameraId
+     * @return
+     */
+    private Map<String, String> getParams(String cameraId) {
         Map<String, String> params = new HashMap<>();
 
         // API parameters
@@ -105,8 +129,34 @@ public class SynoApiCamera extends SynoApiRequest<CameraResponse> {
         params.put("streamInfo", API_TRUE);
         params.put("blPrivilege", API_FALSE);
         params.put("cameraIds", cameraId);
+        return params;
+    }
 
-        return callApi(method, params);
+    /**
+     * Fails a future of an unsuccessful response
+     *
+     * @param future
+     * @return future completed exceptionally with a {@link WebApiException} if not successful
+     */
+    private static CompletableFuture<CameraResponse> checkSuccess(CompletableFuture<CameraResponse> future) {
+        return future.thenApply(response -> {
+            if (!response.isSuccess()) {
+                throw new CompletionException(
+                        new WebApiException(WebApiAuthErrorCodes.getByCode(response.getErrorcode())));
+            }
+            return response;
+        });
+    }
+
+    /**
+     * Calls the passed method asynchronously.
+     *
+     * @param method
+     * @param cameraId
+     * @return future completed exceptionally with a {@link WebApiException} if not successful
+     */
+    private CompletableFuture<CameraResponse> callAsync(String method, String cameraId) {
+        return checkSuccess(callApiAsync(method, getParams(cameraId)));
     }
 
     /**
@@ -131,12 +181,11 @@ public class SynoApiCamera extends SynoApiRequest<CameraResponse> {
 
             long responseTime = System.currentTimeMillis();
 
-            ContentResponse response = request.timeout(timeout, TimeUnit.SECONDS).send();
+            byte[] ret = await(download(request.timeout(timeout, TimeUnit.SECONDS), snapshotBuffers),
+                    Math.max(timeout * 1000L, REQUEST_TIMEOUT));
 
             responseTime = System.currentTimeMillis() - responseTime;
-            byte[] ret = new byte[0];
-            if (response.getStatus() == 200) {
-                ret = response.getContent();
+            if (ret.length > 0) {
                 if (ret.length < 200) {
                     String error = new String(ret);
                     if (error.contains("\"success\":false")) {
@@ -165,8 +214,7 @@ public class SynoApiCamera extends SynoApiRequest<CameraResponse> {
             }
             logger.trace("Device: {}, API response time: {} ms, stream id: {}", cameraId, responseTime, streamId);
             return ret;
-        } catch (IllegalArgumentException | SecurityException | ExecutionException | TimeoutException
-                | InterruptedException e) {
+        } catch (IllegalArgumentException | SecurityException e) {
             throw new WebApiException(e);
         }
     }
@@ -202,7 +250,18 @@ public class SynoApiCamera extends SynoApiRequest<CameraResponse> {
      * @throws WebApiException
      */
     public CameraResponse listCameras() throws WebApiException {
-        CameraResponse response = call(METHOD_LIST);
+        return listCameras(SynoRequestPriority.POLL);
+    }
+
+    /**
+     * Get the list of all cameras in the given lane of the request limiter.
+     *
+     * @param priority
+     * @return
+     * @throws WebApiException
+     */
+    public CameraResponse listCameras(SynoRequestPriority priority) throws WebApiException {
+        CameraResponse response = call(METHOD_LIST, "", priority);
 
         if (!response.isSuccess()) {
             throw new WebApiException(WebApiAuthErrorCodes.getByCode(response.getErrorcode()));
@@ -211,6 +270,25 @@ public class SynoApiCamera extends SynoApiRequest<CameraResponse> {
         return response;
     }
 
+    /**
+     * Get the list of all cameras asynchronously.
+     *
+     * @return
+     */
+    public CompletableFuture<CameraResponse> listCamerasAsync() {
+        return callAsync(METHOD_LIST, "");
+    }
+
+    /**
+     * Get the list of all cameras as part of a compound request.
+     *
+     * @param batch
+     * @return
+     */
+    public CompletableFuture<CameraResponse> listCameras(SynoApiBatch.Batch batch) {
+        return checkSuccess(callApiBatch(batch, METHOD_LIST, getParams("")));
+    }
+
     /**
      * Get specific camera settings.
      *
@@ -218,7 +296,19 @@ public class SynoApiCamera extends SynoApiRequest<CameraResponse> {
      * @throws WebApiException
      */
     public CameraResponse getInfo(String cameraId) throws WebApiException {
-        CameraResponse response = call(METHOD_GETINFO, cameraId);
+        return getInfo(cameraId, SynoRequestPriority.POLL);
+    }
+
+    /**
+     * Get specific camera settings in the given lane of the request limiter.
+     *
+     * @param cameraId
+     * @param priority
+     * @return
+     * @throws WebApiException
+     */
+    public CameraResponse getInfo(String cameraId, SynoRequestPriority priority) throws WebApiException {
+        CameraResponse response = call(METHOD_GETINFO, cameraId, priority);
 
         if (!response.isSuccess()) {
             throw new WebApiException(WebApiAuthErrorCodes.getByCode(response.getErrorcode()));
@@ -227,6 +317,15 @@ public class SynoApiCamera extends SynoApiRequest<CameraResponse> {
         return response;
     }
 
+    /**
+     * Get specific camera settings asynchronously.
+     *
+     * @return
+     */
+    public CompletableFuture<CameraResponse> getInfoAsync(String cameraId) {
+        return callAsync(METHOD_GETINFO, cameraId);
+    }
+
     /**
      * Toggle camera.
      *
@@ -14,13 +14,18 @@ package org.openhab.binding.synologysurveillancestation.internal.webapi.request;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.client.HttpClient;
 import org.openhab.binding.synologysurveillancestation.internal.SynoConfig;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoRequestCoalescer;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoRequestLimiter;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoResponseCache;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.response.CameraEventResponse;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.response.SimpleResponse;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.response.SynoResponseCodec;
 
 /**
  * SYNO.SurveillanceStation.Camera.Event
@@ -38,12 +43,23 @@ public class SynoApiCameraEvent extends SynoApiRequest<CameraEventResponse> {
     // API configuration
     private static final String API_NAME = "SYNO.SurveillanceStation.Camera.Event";
     private static final SynoApiConfig API_CONFIG = new SynoApiConfig(API_NAME, API_VERSION_01, API_SCRIPT_ENTRY);
+    private static final SynoResponseCodec<CameraEventResponse> CODEC =
+            SynoResponseCodec.of(CameraEventResponse.class, CameraEventResponse::new);
+
+    // Cache time to live for motion detection parameters in seconds
+    private static final int CACHE_TTL = 60;
 
     /**
      * @param config
      */
-    public SynoApiCameraEvent(SynoConfig config, HttpClient httpClient) {
-        super(API_CONFIG, config, httpClient);
+    public SynoApiCameraEvent(SynoConfig config, HttpClient httpClient, SynoRequestLimiter limiter,
+            SynoRequestCoalescer coalescer, SynoResponseCache cache) {
+        super(API_CONFIG, CODEC, config, httpClient, limiter, coalescer, cache);
+    }
+
+    @Override
+    protected int getCacheTtl(String method) {
+        return METHOD_MOTIONENUM.equals(method) ? CACHE_TTL : 0;
     }
 
     /**
@@ -59,6 +75,31 @@ public class SynoApiCameraEvent extends SynoApiRequest<CameraEventResponse> {
         return callApi(METHOD_MOTIONENUM, params);
     }
 
+    /**
+     * Get motion detection parameter asynchronously
+     *
+     * @param cameraId
+     * @return future completed with the parameters or exceptionally with a {@link WebApiException}
+     */
+    public CompletableFuture<CameraEventResponse> getMDParamAsync(String cameraId) {
+        Map<String, String> params = new HashMap<>();
+        params.put("camId", cameraId);
+        return callApiAsync(METHOD_MOTIONENUM, params);
+    }
+
+    /**
+     * Get motion detection parameter as part of a compound request
+     *
+     * @param cameraId
+     * @param batch
+     * @return future completed with the parameters once the batch has been executed
+     */
+    public CompletableFuture<CameraEventResponse> getMDParam(String cameraId, SynoApiBatch.Batch batch) {
+        Map<String, String> params = new HashMap<>();
+        params.put("camId", cameraId);
+        return callApiBatch(batch, METHOD_MOTIONENUM, params);
+    }
+
     public SimpleResponse setSource(String cameraId, String source) throws WebApiException {
         if (!("-1".equals(source) || "0".equals(source) || "1".equals(source))) {
             return new SimpleResponse("{\"data\":{},\"success\":false}");
@@ -14,12 +14,18 @@ package org.openhab.binding.synologysurveillancestation.internal.webapi.request;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.client.HttpClient;
 import org.openhab.binding.synologysurveillancestation.internal.SynoConfig;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoRequestCoalescer;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoRequestLimiter;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoResponseCache;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.response.EventResponse;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.response.SynoResponseCodec;
 
 /**
  * SYNO.SurveillanceStation.SynoApiEvent
@@ -34,33 +40,127 @@ public class SynoApiEvent extends SynoApiRequest<EventResponse> {
     // API Configuration
     private static final String API_NAME = "SYNO.SurveillanceStation.Event";
     private static final SynoApiConfig API_CONFIG = new SynoApiConfig(API_NAME, API_VERSION_05, API_SCRIPT_ENTRY);
+    private static final SynoResponseCodec<EventResponse> CODEC =
+            SynoResponseCodec.streaming(EventResponse.class, EventResponse::new);
+
+    // Maximum number of events returned by a single page of a poll (all reasons)
+    public static final int EVENT_LIMIT = 20;
+
+    // Maximum number of pages requested by a single poll
+    public static final int EVENT_PAGES = 5;
 
     /**
      * @param config
      */
-    public SynoApiEvent(SynoConfig config, HttpClient httpClient) {
-        super(API_CONFIG, config, httpClient);
+    public SynoApiEvent(SynoConfig config, HttpClient httpClient, SynoRequestLimiter limiter,
+            SynoRequestCoalescer coalescer, SynoResponseCache cache) {
+        super(API_CONFIG, CODEC, config, httpClient, limiter, coalescer, cache);
+    }
+
+    /**
+     * Get the latest API events of all reasons
+     *
+     * @param cameraId Single camera ID or comma separated list of camera IDs
+     * @param fromTime Only events since this time (epoch seconds) are returned, 0 for all events
+     * @param limit Maximum number of events to be returned
+     * @return
+     */
+    public EventResponse getEventResponse(String cameraId, long fromTime, int limit) {
+        try {
+            return callApi(METHOD_LIST, getParams(cameraId, fromTime, limit, 0));
+        } catch (WebApiException e) {
+            return new EventResponse("{\"data\":{},\"success\":false}");
+        }
     }
 
     /**
-     * Get API events
+     * Get the latest API events of all reasons, requesting older pages until the response is complete
      *
+     * @param cameraId Single camera ID or comma separated list of camera IDs
+     * @param fromTime Only events since this time (epoch seconds) are returned, 0 for all events
+     * @param limit Maximum number of events to be returned per page
+     * @param complete Checks if a response contains all events needed
      * @return
-     * @throws WebApiException
      */
-    public EventResponse getEventResponse(String cameraId, long lastEventTime, int reason) {
+    public EventResponse getEventResponse(String cameraId, long fromTime, int limit,
+            Predicate<EventResponse> complete) {
+        EventResponse response = getEventResponse(cameraId, fromTime, limit);
+        try {
+            return await(getRemainingEvents(response, cameraId, fromTime, limit, complete));
+        } catch (WebApiException e) {
+            return response;
+        }
+    }
+
+    /**
+     * Completes a response with older pages of events, as a burst of events of one reason can push the latest events
+     * of other reasons out of a single page. Pages are requested while the previous page was full, the response is
+     * not complete and {@link #EVENT_PAGES} are not exceeded.
+     *
+     * @param response First page of events
+     * @param cameraId Single camera ID or comma separated list of camera IDs
+     * @param fromTime Only events since this time (epoch seconds) are returned, 0 for all events
+     * @param limit Maximum number of events to be returned per page
+     * @param complete Checks if a response contains all events needed
+     * @return future completed with the combined response, on failure with the events received so far
+     */
+    public CompletableFuture<EventResponse> getRemainingEvents(EventResponse response, String cameraId,
+            long fromTime, int limit, Predicate<EventResponse> complete) {
+        return getRemainingEvents(response, cameraId, fromTime, limit, complete, 1);
+    }
+
+    private CompletableFuture<EventResponse> getRemainingEvents(EventResponse response, String cameraId,
+            long fromTime, int limit, Predicate<EventResponse> complete, int page) {
+        if (!response.isSuccess() || response.getEventCount() < limit * page || page >= EVENT_PAGES
+                || complete.test(response)) {
+            return CompletableFuture.completedFuture(response);
+        }
+        return callApiAsync(METHOD_LIST, getParams(cameraId, fromTime, limit, limit * page)).thenCompose(next -> {
+            if (!next.isSuccess()) {
+                return CompletableFuture.completedFuture(response);
+            }
+            return getRemainingEvents(response.merge(next), cameraId, fromTime, limit, complete, page + 1);
+        }).exceptionally(e -> response);
+    }
+
+    /**
+     * Get the latest API events of all reasons asynchronously
+     *
+     * @param cameraId Single camera ID or comma separated list of camera IDs
+     * @param fromTime Only events since this time (epoch seconds) are returned, 0 for all events
+     * @param limit Maximum number of events to be returned
+     * @return future completed with the events or exceptionally with a {@link WebApiException}
+     */
+    public CompletableFuture<EventResponse> getEventResponseAsync(String cameraId, long fromTime, int limit) {
+        return callApiAsync(METHOD_LIST, getParams(cameraId, fromTime, limit, 0));
+    }
+
+    /**
+     * Get the latest API events of all reasons as part of a compound request
+     *
+     * @param batch
+     * @param cameraId Single camera ID or comma separated list of camera IDs
+     * @param fromTime Only events since this time (epoch seconds) are returned, 0 for all events
+     * @param limit Maximum number of events to be returned
+     * @return future completed with the events or exceptionally with a {@link WebApiException}
+     */
+    public CompletableFuture<EventResponse> getEventResponse(SynoApiBatch.Batch batch, String cameraId,
+            long fromTime, int limit) {
+        return callApiBatch(batch, METHOD_LIST, getParams(cameraId, fromTime, limit, 0));
+    }
+
+    private Map<String, String> getParams(String cameraId, long fromTime, int limit, int offset) {
         Map<String, String> params = new HashMap<>();
 
         params.put("cameraIds", cameraId);
-        // params.put("fromTime", String.valueOf(lastEventTime));
+        if (fromTime > 0) {
+            params.put("fromTime", String.valueOf(fromTime));
+        }
         params.put("blIncludeSnapshot", API_FALSE);
-        params.put("limit", "1");
-        params.put("reason", String.valueOf(reason));
-
-        try {
-            return callApi(METHOD_LIST, params);
-        } catch (WebApiException e) {
-            return new EventResponse("{\"data\":{},\"success\":false}");
+        if (offset > 0) {
+            params.put("offset", String.valueOf(offset));
         }
+        params.put("limit", String.valueOf(limit));
+        return params;
     }
 }
@@ -18,8 +18,12 @@ import java.util.Map;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.client.HttpClient;
 import org.openhab.binding.synologysurveillancestation.internal.SynoConfig;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoRequestCoalescer;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoRequestLimiter;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoResponseCache;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.response.CameraResponse;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.response.SynoResponseCodec;
 
 /**
  * SYNO.SurveillanceStation.ExternalEvent
@@ -36,12 +40,15 @@ public class SynoApiExternalEvent extends SynoApiRequest<CameraResponse> {
     // API configuration
     private static final String API_NAME = "SYNO.SurveillanceStation.ExternalEvent";
     private static final SynoApiConfig API_CONFIG = new SynoApiConfig(API_NAME, API_VERSION_01, API_SCRIPT_ENTRY);
+    private static final SynoResponseCodec<CameraResponse> CODEC =
+            SynoResponseCodec.of(CameraResponse.class, CameraResponse::new);
 
     /**
      * @param config
      */
-    public SynoApiExternalEvent(SynoConfig config, HttpClient httpClient) {
-        super(API_CONFIG, config, httpClient);
+    public SynoApiExternalEvent(SynoConfig config, HttpClient httpClient, SynoRequestLimiter limiter,
+            SynoRequestCoalescer coalescer, SynoResponseCache cache) {
+        super(API_CONFIG, CODEC, config, httpClient, limiter, coalescer, cache);
     }
 
     /**
@@ -18,8 +18,12 @@ import java.util.Map;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.client.HttpClient;
 import org.openhab.binding.synologysurveillancestation.internal.SynoConfig;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoRequestCoalescer;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoRequestLimiter;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoResponseCache;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.response.SimpleResponse;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.response.SynoResponseCodec;
 
 /**
  * SYNO.SurveillanceStation.ExternalRecording
@@ -38,12 +42,15 @@ public class SynoApiExternalRecording extends SynoApiRequest<SimpleResponse> {
     // API configuration
     private static final String API_NAME = "SYNO.SurveillanceStation.ExternalRecording";
     private static final SynoApiConfig API_CONFIG = new SynoApiConfig(API_NAME, API_VERSION_02, API_SCRIPT_ENTRY);
+    private static final SynoResponseCodec<SimpleResponse> CODEC =
+            SynoResponseCodec.of(SimpleResponse.class, SimpleResponse::new);
 
     /**
      * @param config
      */
-    public SynoApiExternalRecording(SynoConfig config, HttpClient httpClient) {
-        super(API_CONFIG, config, httpClient);
+    public SynoApiExternalRecording(SynoConfig config, HttpClient httpClient, SynoRequestLimiter limiter,
+            SynoRequestCoalescer coalescer, SynoResponseCache cache) {
+        super(API_CONFIG, CODEC, config, httpClient, limiter, coalescer, cache);
     }
 
     /**
@@ -14,13 +14,18 @@ package org.openhab.binding.synologysurveillancestation.internal.webapi.request;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.client.HttpClient;
 import org.openhab.binding.synologysurveillancestation.internal.SynoConfig;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoRequestCoalescer;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoRequestLimiter;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoResponseCache;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.response.HomeModeResponse;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.response.SimpleResponse;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.response.SynoResponseCodec;
 
 /**
  * SYNO.SurveillanceStation.SynoApiHomeMode
@@ -33,12 +38,15 @@ import org.openhab.binding.synologysurveillancestation.internal.webapi.response.
 public class SynoApiHomeMode extends SynoApiRequest<HomeModeResponse> {
     private static final String API_NAME = "SYNO.SurveillanceStation.HomeMode";
     private static final SynoApiConfig API_CONFIG = new SynoApiConfig(API_NAME, API_VERSION_01, API_SCRIPT_ENTRY);
+    private static final SynoResponseCodec<HomeModeResponse> CODEC =
+            SynoResponseCodec.of(HomeModeResponse.class, HomeModeResponse::new);
 
     /**
      * @param config
      */
-    public SynoApiHomeMode(SynoConfig config, HttpClient httpClient) {
-        super(API_CONFIG, config, httpClient);
+    public SynoApiHomeMode(SynoConfig config, HttpClient httpClient, SynoRequestLimiter limiter,
+            SynoRequestCoalescer coalescer, SynoResponseCache cache) {
+        super(API_CONFIG, CODEC, config, httpClient, limiter, coalescer, cache);
     }
 
     /**
@@ -56,6 +64,25 @@ public class SynoApiHomeMode extends SynoApiRequest<HomeModeResponse> {
         }
     }
 
+    /**
+     * Get home mode asynchronously
+     *
+     * @return future completed with the state or exceptionally with a {@link WebApiException}
+     */
+    public CompletableFuture<HomeModeResponse> getHomeModeResponseAsync() {
+        return callApiAsync(METHOD_GETINFO, new HashMap<>());
+    }
+
+    /**
+     * Get home mode as part of a compound request
+     *
+     * @param batch
+     * @return future completed with the state or exceptionally with a {@link WebApiException}
+     */
+    public CompletableFuture<HomeModeResponse> getHomeModeResponse(SynoApiBatch.Batch batch) {
+        return callApiBatch(batch, METHOD_GETINFO, new HashMap<>());
+    }
+
     /**
      *
      * @param mode
@@ -16,12 +16,22 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.api.Request;
 import org.openhab.binding.synologysurveillancestation.internal.SynoConfig;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoBufferPool;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoMjpegParser;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoMjpegStream;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoRequestCoalescer;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoRequestLimiter;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoResponseCache;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.response.LiveUriResponse;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.response.SynoResponseCodec;
 
 /**
  * SYNO.SurveillanceStation.LiveUri
@@ -36,12 +46,29 @@ public class SynoApiLiveUri extends SynoApiRequest<LiveUriResponse> {
     // API configuration
     private static final String API_NAME = "SYNO.SurveillanceStation.Camera";
     private static final SynoApiConfig API_CONFIG = new SynoApiConfig(API_NAME, API_VERSION_09, API_SCRIPT_ENTRY);
+    private static final SynoResponseCodec<LiveUriResponse> CODEC =
+            SynoResponseCodec.of(LiveUriResponse.class, LiveUriResponse::new);
+
+    // Cache time to live for live URIs in seconds
+    private static final int CACHE_TTL = 300;
+
+    // Time without data after which a live feed is closed in seconds
+    private static final int STREAM_IDLE_TIMEOUT = 10;
+
+    // Buffers receiving frames of the live feeds of all cameras of the Station
+    private final SynoBufferPool frameBuffers = new SynoBufferPool();
 
     /**
      * @param config
      */
-    public SynoApiLiveUri(SynoConfig config, HttpClient httpClient) {
-        super(API_CONFIG, config, httpClient);
+    public SynoApiLiveUri(SynoConfig config, HttpClient httpClient, SynoRequestLimiter limiter,
+            SynoRequestCoalescer coalescer, SynoResponseCache cache) {
+        super(API_CONFIG, CODEC, config, httpClient, limiter, coalescer, cache);
+    }
+
+    @Override
+    protected int getCacheTtl(String method) {
+        return METHOD_LIVEVIEWPATH.equals(method) ? CACHE_TTL : 0;
     }
 
     /**
@@ -59,4 +86,51 @@ public class SynoApiLiveUri extends SynoApiRequest<LiveUriResponse> {
 
         return callApi(METHOD_LIVEVIEWPATH, params);
     }
+
+    /**
+     * Get live URIs of the selected camera's live feed asynchronously
+     *
+     * @param cameraId
+     * @return future completed with the URIs or exceptionally with a {@link WebApiException}
+     */
+    public CompletableFuture<LiveUriResponse> getLiveUriResponseAsync(String cameraId) {
+        Map<String, String> params = new HashMap<>();
+        params.put("idList", cameraId);
+
+        return callApiAsync(METHOD_LIVEVIEWPATH, params);
+    }
+
+    /**
+     * Get live URIs of the selected camera's live feed as part of a compound request
+     *
+     * @param batch
+     * @param cameraId
+     * @return future completed with the URIs or exceptionally with a {@link WebApiException}
+     */
+    public CompletableFuture<LiveUriResponse> getLiveUriResponse(SynoApiBatch.Batch batch, String cameraId) {
+        Map<String, String> params = new HashMap<>();
+        params.put("idList", cameraId);
+
+        return callApiBatch(batch, METHOD_LIVEVIEWPATH, params);
+    }
+
+    /**
+     * Opens a MJPEG live feed. The connection stays open and is therefore not limited by the request limiter.
+     *
+     * @param uri MJPEG over http URI of the live feed
+     * @param listener Listener receiving the frames
+     * @return the opened stream
+     * @throws WebApiException if the URI is invalid
+     */
+    public SynoMjpegStream openMjpegStream(String uri, SynoMjpegParser.FrameListener listener)
+            throws WebApiException {
+        try {
+            Request request = getHttpClient().newRequest(uri).idleTimeout(STREAM_IDLE_TIMEOUT, TimeUnit.SECONDS);
+            SynoMjpegStream stream = new SynoMjpegStream(request, frameBuffers, listener);
+            stream.open();
+            return stream;
+        } catch (IllegalArgumentException e) {
+            throw new WebApiException(e);
+        }
+    }
 }
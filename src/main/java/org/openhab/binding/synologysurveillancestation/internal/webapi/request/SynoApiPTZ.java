@@ -20,9 +20,13 @@ import java.util.Map;
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jetty.client.HttpClient;
 import org.openhab.binding.synologysurveillancestation.internal.SynoConfig;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoRequestCoalescer;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoRequestLimiter;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoResponseCache;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.error.WebApiAuthErrorCodes;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.response.SimpleResponse;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.response.SynoResponseCodec;
 
 /**
  * SYNO.SurveillanceStation.SynoApiPTZ
@@ -54,12 +58,23 @@ public class SynoApiPTZ extends SynoApiRequest<SimpleResponse> {
     // API configuration
     private static final String API_NAME = "SYNO.SurveillanceStation.PTZ";
     private static final SynoApiConfig API_CONFIG = new SynoApiConfig(API_NAME, API_VERSION_03, API_SCRIPT_ENTRY);
+    private static final SynoResponseCodec<SimpleResponse> CODEC =
+            SynoResponseCodec.of(SimpleResponse.class, SimpleResponse::new);
+
+    // Cache time to live for presets and patrols in seconds
+    private static final int CACHE_TTL = 300;
 
     /**
      * @param config
      */
-    public SynoApiPTZ(SynoConfig config, HttpClient httpClient) {
-        super(API_CONFIG, config, httpClient);
+    public SynoApiPTZ(SynoConfig config, HttpClient httpClient, SynoRequestLimiter limiter,
+            SynoRequestCoalescer coalescer, SynoResponseCache cache) {
+        super(API_CONFIG, CODEC, config, httpClient, limiter, coalescer, cache);
+    }
+
+    @Override
+    protected int getCacheTtl(String method) {
+        return METHOD_LISTPRESET.equals(method) || METHOD_LISTPATROL.equals(method) ? CACHE_TTL : 0;
     }
 
     /**
@@ -13,26 +13,44 @@
 package org.openhab.binding.synologysurveillancestation.internal.webapi.request;
 
 import java.io.IOException;
-import java.io.UnsupportedEncodingException;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.ParameterizedType;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
 import org.eclipse.jetty.client.HttpClient;
+import org.eclipse.jetty.client.HttpContentResponse;
 import org.eclipse.jetty.client.api.ContentResponse;
 import org.eclipse.jetty.client.api.Request;
+import org.eclipse.jetty.client.api.Response;
+import org.eclipse.jetty.client.api.Result;
+import org.eclipse.jetty.client.util.BufferingResponseListener;
+import org.eclipse.jetty.http.HttpHeader;
+import org.eclipse.jetty.http.HttpStatus;
+import org.eclipse.jetty.util.Fields;
 import org.eclipse.jetty.util.URIUtil;
 import org.openhab.binding.synologysurveillancestation.internal.SynoConfig;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoBufferPool;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoRequestCoalescer;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoRequestLimiter;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoRequestPriority;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoResponseCache;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.WebApiException;
 import org.openhab.binding.synologysurveillancestation.internal.webapi.response.SynoApiResponse;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.response.SynoResponseCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -51,26 +69,38 @@ public abstract class SynoApiRequest<T extends SynoApiResponse> implements SynoA
     protected static final String API_TRUE = Boolean.TRUE.toString();
     protected static final String API_FALSE = Boolean.FALSE.toString();
 
+    // Parameters holding camera IDs
+    private static final String[] CAMERA_ID_PARAMS = { "cameraId", "camId", "cameraIds", "idList" };
+
+    // Maximum size of a buffered asynchronous response
+    private static final int MAX_RESPONSE_SIZE = 4 * 1024 * 1024;
+
     private final SynoApiConfig apiConfig;
     private final HttpClient httpClient;
+    private final SynoRequestLimiter limiter;
+    private final SynoRequestCoalescer coalescer;
+    private final SynoResponseCache cache;
     private SynoConfig config;
     private String sessionId = "";
 
-    final Class<T> typeParameterClass;
+    private final SynoResponseCodec<T> codec;
 
     /**
      * @param apiConfig
+     * @param codec Codec creating the responses of this API
      * @param config
      * @param sessionId
      */
-    @SuppressWarnings({ "unchecked", "rawtypes" })
-    public SynoApiRequest(SynoApiConfig apiConfig, SynoConfig config, HttpClient httpClient) {
+    public SynoApiRequest(SynoApiConfig apiConfig, SynoResponseCodec<T> codec, SynoConfig config,
+            HttpClient httpClient, SynoRequestLimiter limiter, SynoRequestCoalescer coalescer,
+            SynoResponseCache cache) {
         super();
 
-        this.typeParameterClass = ((Class) ((ParameterizedType) getClass().getGenericSuperclass())
-                .getActualTypeArguments()[0]);
-
+        this.codec = codec;
         this.httpClient = httpClient;
+        this.limiter = limiter;
+        this.coalescer = coalescer;
+        this.cache = cache;
         this.apiConfig = apiConfig;
         this.config = config;
     }
@@ -92,6 +122,13 @@ public abstract class SynoApiRequest<T extends SynoApiResponse> implements SynoA
         return config;
     }
 
+    /**
+     * @return HTTP client of the Station
+     */
+    protected HttpClient getHttpClient() {
+        return httpClient;
+    }
+
     /**
      * @return
      */
@@ -147,8 +184,162 @@ public abstract class SynoApiRequest<T extends SynoApiResponse> implements SynoA
      * @throws WebApiException
      */
     protected T callApi(String method, Map<String, String> params) throws WebApiException {
-        Request request = getWebApiUrl(method, params);
-        return callWebApi(request);
+        return await(callApiAsync(method, params));
+    }
+
+    /**
+     * Calls the method with the passed parameters in the given lane of the request limiter.
+     *
+     * @param method
+     * @param params
+     * @param priority
+     * @return
+     * @throws WebApiException
+     */
+    protected T callApi(String method, Map<String, String> params, SynoRequestPriority priority)
+            throws WebApiException {
+        return await(callApiAsync(method, params, priority));
+    }
+
+    /**
+     * Calls the method with the passed parameters without blocking the calling thread.
+     *
+     * @param method
+     * @param params
+     * @return future completed with the response or exceptionally with a {@link WebApiException}
+     */
+    protected CompletableFuture<T> callApiAsync(String method, Map<String, String> params) {
+        return callApiAsync(method, params, getPriority(method));
+    }
+
+    /**
+     * Calls the method with the passed parameters in the given lane of the request limiter without blocking the
+     * calling thread. Concurrent identical read requests share a single round trip, responses of methods with a
+     * cache TTL are taken from the cache. A successful command invalidates the cached responses of its camera.
+     * Like all asynchronous variants of the APIs, the future fails only if no response has been received, an
+     * unsuccessful response of the Station completes it normally.
+     *
+     * @param method
+     * @param params
+     * @param priority
+     * @return future completed with the response or exceptionally with a {@link WebApiException}
+     */
+    protected CompletableFuture<T> callApiAsync(String method, Map<String, String> params,
+            SynoRequestPriority priority) {
+        if (priority == SynoRequestPriority.COMMAND) {
+            CompletableFuture<T> command = startApiAsync(method, params, priority);
+            return cancelling(command, command.thenApply(response -> {
+                if (response.isSuccess()) {
+                    for (String cameraId : getCameraId(params).split(",")) {
+                        cache.invalidate(cameraId);
+                    }
+                }
+                return response;
+            }));
+        }
+
+        String key = getRequestKey(method, params);
+        String cameraId = getCameraId(params);
+        long ttl = getCacheTtl(method) * 1000L;
+        if (ttl > 0) {
+            Object cached = cache.get(key);
+            if (codec.getType().isInstance(cached)) {
+                return CompletableFuture.completedFuture(codec.getType().cast(cached));
+            }
+        }
+        // Reads sent before the last command of the camera are neither joined nor cached
+        long epoch = cache.getEpoch(cameraId);
+        return coalescer.coalesce(key + "#" + epoch, () -> {
+            CompletableFuture<T> read = startApiAsync(method, params, priority);
+            return cancelling(read, read.thenApply(response -> {
+                if (ttl > 0 && response.isSuccess()) {
+                    cache.put(key, cameraId, response, ttl, epoch);
+                }
+                return response;
+            }));
+        });
+    }
+
+    /**
+     * Adds the method with the passed parameters to a batch, which is sent as a single compound request. Responses
+     * of methods with a cache TTL are taken from the cache if available.
+     *
+     * @param batch
+     * @param method
+     * @param params
+     * @return future completed with the response once the batch has been executed
+     */
+    protected CompletableFuture<T> callApiBatch(SynoApiBatch.Batch batch, String method, Map<String, String> params) {
+        String key = getRequestKey(method, params);
+        long ttl = getCacheTtl(method) * 1000L;
+        if (ttl <= 0) {
+            return batch.add(this, method, params);
+        }
+        Object cached = cache.get(key);
+        if (codec.getType().isInstance(cached)) {
+            return CompletableFuture.completedFuture(codec.getType().cast(cached));
+        }
+        String cameraId = getCameraId(params);
+        long epoch = cache.getEpoch(cameraId);
+        return batch.add(this, method, params).thenApply(response -> {
+            if (response.isSuccess()) {
+                cache.put(key, cameraId, response, ttl, epoch);
+            }
+            return response;
+        });
+    }
+
+    /**
+     * Time to live of cached responses of a method, to be overridden by APIs with rarely changing data
+     *
+     * @param method
+     * @return time to live in seconds, 0 for no caching
+     */
+    protected int getCacheTtl(String method) {
+        return 0;
+    }
+
+    /**
+     * @param params
+     * @return the camera ID (or comma separated IDs) of a request, empty if none
+     */
+    private static String getCameraId(Map<String, String> params) {
+        for (String key : CAMERA_ID_PARAMS) {
+            String cameraId = params.get(key);
+            if (cameraId != null) {
+                return cameraId;
+            }
+        }
+        return "";
+    }
+
+    /**
+     * Starts a request of the method with the passed parameters
+     *
+     * @param method
+     * @param params
+     * @param priority
+     * @return future completed with the response or exceptionally with a {@link WebApiException}
+     */
+    private CompletableFuture<T> startApiAsync(String method, Map<String, String> params,
+            SynoRequestPriority priority) {
+        try {
+            Request request = getWebApiUrl(method, params);
+            return callWebApiAsync(request, priority);
+        } catch (WebApiException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Builds a key identifying a request by API, version, method and parameters (in sorted order)
+     *
+     * @param method
+     * @param params
+     * @return
+     */
+    protected String getRequestKey(String method, Map<String, String> params) {
+        return apiConfig.getName() + "/" + apiConfig.getVersion() + "/" + method + new TreeMap<>(params);
     }
 
     /**
@@ -164,7 +355,7 @@ public abstract class SynoApiRequest<T extends SynoApiResponse> implements SynoA
         try {
             URI uri = getWebApiUrlBuilder();
 
-            Request request = httpClient.newRequest(uri);
+            Request request = httpClient.newRequest(uri).timeout(REQUEST_TIMEOUT, TimeUnit.MILLISECONDS);
 
             // API data
             request.param("api", apiConfig.getName());
@@ -199,43 +390,302 @@ public abstract class SynoApiRequest<T extends SynoApiResponse> implements SynoA
      * @throws UnsupportedOperationException
      * @throws IOException
      */
-    protected synchronized T callWebApi(Request request) throws WebApiException {
-        try {
+    protected T callWebApi(Request request) throws WebApiException {
+        return await(callWebApiAsync(request));
+    }
+
+    /**
+     * Sends the request asynchronously, so no thread is blocked while waiting for the Station.
+     *
+     * @param request
+     * @return future completed with the response or exceptionally with a {@link WebApiException}
+     */
+    protected CompletableFuture<T> callWebApiAsync(Request request) {
+        return callWebApiAsync(request, getPriority(request));
+    }
+
+    /**
+     * Sends the request asynchronously in the given lane of the request limiter.
+     *
+     * @param request
+     * @param priority
+     * @return future completed with the response or exceptionally with a {@link WebApiException}
+     */
+    protected CompletableFuture<T> callWebApiAsync(Request request, SynoRequestPriority priority) {
+        CompletableFuture<ContentResponse> sent = send(request, priority);
+        return cancelling(sent, sent.thenApply(response -> {
+            try {
+                return parseResponse(response.getStatus(), response.getContent(), response.getEncoding());
+            } catch (WebApiException e) {
+                throw new CompletionException(e);
+            }
+        }));
+    }
+
+    /**
+     * Sends the request using Jetty's response listener as soon as the request limiter of the Station allows it.
+     * The lane of the request limiter is derived from the API method.
+     *
+     * @param request
+     * @return future completed with the raw response or exceptionally with a {@link WebApiException}
+     */
+    protected CompletableFuture<ContentResponse> send(Request request) {
+        return send(request, getPriority(request));
+    }
+
+    /**
+     * Sends the request using Jetty's response listener as soon as the given lane of the request limiter allows it
+     *
+     * @param request
+     * @param priority
+     * @return future completed with the raw response or exceptionally with a {@link WebApiException}
+     */
+    protected CompletableFuture<ContentResponse> send(Request request, SynoRequestPriority priority) {
+        return limiter.submit(priority, () -> {
+            CompletableFuture<ContentResponse> future = new CompletableFuture<>();
             if (logger.isDebugEnabled()) {
                 logger.debug("URI: {}", request.getURI().toString());
             }
-            ContentResponse response = request.send();
+            request.send(new BufferingResponseListener(MAX_RESPONSE_SIZE) {
+                @Override
+                public void onComplete(@Nullable Result result) {
+                    if (result == null || result.isFailed()) {
+                        Throwable failure = result == null ? null : result.getFailure();
+                        future.completeExceptionally(failure == null ? new WebApiException("Request failed")
+                                : new WebApiException(failure));
+                    } else {
+                        future.complete(new HttpContentResponse(result.getResponse(), getContent(), getMediaType(),
+                                getEncoding()));
+                    }
+                }
+            });
+            return future;
+        });
+    }
 
-            if (response.getStatus() == 200) {
-                byte[] rawResponse = response.getContent();
-                String encoding = response.getEncoding().replaceAll("\"", "").trim();
-                String result = new String(rawResponse, encoding);
+    /**
+     * Sends the request like {@link #send(Request)}, but streams the content into a pooled buffer instead of a
+     * growing array. Only the final content is copied into an array of its exact size.
+     *
+     * @param request
+     * @param pool Pool of buffers receiving the content
+     * @return future completed with the content, empty if the HTTP status is not OK, or exceptionally with a
+     *         {@link WebApiException}
+     */
+    protected CompletableFuture<byte[]> download(Request request, SynoBufferPool pool) {
+        return limiter.submit(getPriority(request), () -> {
+            CompletableFuture<byte[]> future = new CompletableFuture<>();
+            if (logger.isDebugEnabled()) {
+                logger.debug("URI: {}", request.getURI().toString());
+            }
+            request.send(new Response.Listener.Adapter() {
+                private byte[] buffer = pool.acquire();
+                private int length = 0;
+
+                @Override
+                public void onHeaders(@Nullable Response response) {
+                    long contentLength = response == null ? -1
+                            : response.getHeaders().getLongField(HttpHeader.CONTENT_LENGTH.asString());
+                    if (contentLength > buffer.length && contentLength <= SynoBufferPool.MAX_SIZE) {
+                        buffer = pool.ensureCapacity(buffer, (int) contentLength, 0);
+                    }
+                }
 
-                if (result.length() > 0) {
-                    if (result.contains("\"success\":true")) {
-                        logger.debug("RESPONSE: {}", result);
-                    } else {
-                        logger.error("RESPONSE: {}", result);
+                @Override
+                public void onContent(@Nullable Response response, @Nullable ByteBuffer content) {
+                    if (response == null || content == null) {
+                        return;
                     }
+                    int remaining = content.remaining();
+                    try {
+                        buffer = pool.ensureCapacity(buffer, length + remaining, length);
+                    } catch (IllegalArgumentException e) {
+                        response.abort(new WebApiException(e));
+                        return;
+                    }
+                    content.get(buffer, length, remaining);
+                    length += remaining;
+                }
 
+                @Override
+                public void onComplete(@Nullable Result result) {
+                    try {
+                        if (result == null || result.isFailed()) {
+                            Throwable failure = result == null ? null : result.getFailure();
+                            future.completeExceptionally(failure == null ? new WebApiException("Request failed")
+                                    : failure instanceof WebApiException ? failure : new WebApiException(failure));
+                        } else if (result.getResponse().getStatus() != HttpStatus.OK_200) {
+                            future.complete(new byte[0]);
+                        } else {
+                            pool.record(length);
+                            future.complete(Arrays.copyOf(buffer, length));
+                        }
+                    } finally {
+                        pool.release(buffer);
+                    }
                 }
+            });
+            return future;
+        });
+    }
 
-                Constructor<T> ctor = typeParameterClass.getConstructor(String.class);
+    /**
+     * Default lane of a request: commands changing the Station and authentication first, snapshots after polls
+     *
+     * @param request
+     * @return
+     */
+    private static SynoRequestPriority getPriority(Request request) {
+        Fields.Field method = request.getParams().get("method");
+        return method == null ? SynoRequestPriority.POLL : getPriority(method.getValue());
+    }
 
-                T vo = ctor.newInstance(new Object[] { result });
+    /**
+     * Default lane of an API method
+     *
+     * @param method
+     * @return
+     */
+    private static SynoRequestPriority getPriority(String method) {
+        switch (method) {
+            case METHOD_LOGIN:
+            case METHOD_LOGOUT:
+            case METHOD_ENABLE:
+            case METHOD_DISABLE:
+            case METHOD_RECORD:
+            case METHOD_ZOOM:
+            case METHOD_MOVE:
+            case METHOD_GOPRESET:
+            case METHOD_RUNPATROL:
+            case METHOD_SWITCH:
+            case METHOD_TRIGGER:
+            case METHOD_MDPARAMSAVE:
+                return SynoRequestPriority.COMMAND;
+            case METHOD_GETSNAPSHOT:
+                return SynoRequestPriority.SNAPSHOT;
+            default:
+                return SynoRequestPriority.POLL;
+        }
+    }
 
-                return vo;
+    /**
+     * Waits for an asynchronous request at most {@link #REQUEST_TIMEOUT}
+     *
+     * @param future
+     * @return the result of the request
+     * @throws WebApiException if the request failed or timed out or the waiting thread was interrupted
+     */
+    protected static <R> R await(CompletableFuture<R> future) throws WebApiException {
+        return await(future, REQUEST_TIMEOUT);
+    }
 
-            } else {
-                throw new WebApiException("Error calling Surveillance Station WebApi!");
+    /**
+     * Waits for an asynchronous request
+     *
+     * @param future
+     * @param timeout Maximum time to wait (ms)
+     * @return the result of the request
+     * @throws WebApiException if the request failed or timed out or the waiting thread was interrupted
+     */
+    protected static <R> R await(CompletableFuture<R> future, long timeout) throws WebApiException {
+        try {
+            return future.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof WebApiException) {
+                throw (WebApiException) cause;
+            }
+            throw new WebApiException(cause == null ? e : cause);
+        } catch (TimeoutException e) {
+            // A request still queued in the request limiter is dropped, a sent request is aborted by its own timeout
+            future.cancel(false);
+            throw new WebApiException(e);
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new WebApiException(e);
+        }
+    }
+
+    /**
+     * Passes the cancellation of a dependent stage on to the stage it depends on, which a plain
+     * {@link CompletableFuture#thenApply} does not
+     *
+     * @param upstream Stage the dependent stage has been created from
+     * @param downstream Dependent stage returned to the caller
+     * @return the dependent stage
+     */
+    private static <R> CompletableFuture<R> cancelling(CompletableFuture<?> upstream, CompletableFuture<R> downstream) {
+        downstream.whenComplete((result, failure) -> {
+            if (downstream.isCancelled()) {
+                upstream.cancel(false);
+            }
+        });
+        return downstream;
+    }
+
+    /**
+     * Creates the response object from a raw response
+     *
+     * @param status HTTP status
+     * @param rawResponse Response content
+     * @param encoding Response encoding, UTF-8 if not provided
+     * @return
+     * @throws WebApiException
+     */
+    private T parseResponse(int status, byte[] rawResponse, @Nullable String encoding) throws WebApiException {
+        if (status != 200) {
+            throw new WebApiException("Error calling Surveillance Station WebApi!");
+        }
+        Charset charset;
+        try {
+            charset = encoding == null ? StandardCharsets.UTF_8
+                    : Charset.forName(encoding.replaceAll("\"", "").trim());
+        } catch (IllegalArgumentException e) {
+            throw new WebApiException(e);
+        }
+
+        T response = createResponse(rawResponse, charset);
+
+        if (rawResponse.length > 0) {
+            if (!response.isSuccess()) {
+                logger.error("RESPONSE: {}", new String(rawResponse, charset));
+            } else if (logger.isDebugEnabled()) {
+                logger.debug("RESPONSE: {}", new String(rawResponse, charset));
             }
+        }
+
+        return response;
+    }
+
+    /**
+     * Creates the response object directly from the response bytes
+     *
+     * @param rawResponse Response content
+     * @param charset Response encoding
+     * @return
+     * @throws WebApiException
+     */
+    protected T createResponse(byte[] rawResponse, Charset charset) throws WebApiException {
+        try {
+            return codec.decode(rawResponse, charset);
+        } catch (RuntimeException e) {
+            throw new WebApiException(e);
+        }
+    }
 
-        } catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException
-                | NoSuchMethodException | SecurityException | ExecutionException | TimeoutException
-                | InterruptedException e) {
+    /**
+     * Creates the response object from a JSON response
+     *
+     * @param result JSON response
+     * @return
+     * @throws WebApiException
+     */
+    protected T createResponse(String result) throws WebApiException {
+        try {
+            return codec.decode(result);
+        } catch (RuntimeException e) {
             throw new WebApiException(e);
-        } catch (UnsupportedEncodingException ee) {
-            throw new WebApiException(ee);
         }
     }
 }
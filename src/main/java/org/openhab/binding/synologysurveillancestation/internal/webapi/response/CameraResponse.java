@@ -14,15 +14,19 @@ package org.openhab.binding.synologysurveillancestation.internal.webapi.response
 
 import static org.openhab.binding.synologysurveillancestation.SynoBindingConstants.DEVICE_ID;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
 import org.eclipse.jdt.annotation.Nullable;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 /**
  * {@link CameraResponse} is a response for camera information
@@ -55,33 +59,91 @@ public class CameraResponse extends SimpleResponse {
     // 0x200: Zoom speed
     private static final int BIT_PTZ_ZOOM_SPEED = 10;
 
+    // cameras of the response indexed by ID, in order of the response
+    private Map<String, CameraResponseObject> cameras = Map.of();
+
     /**
      * @param jsonResponse
      */
     public CameraResponse(String jsonResponse) {
-        super(jsonResponse);
+        this(new StringReader(jsonResponse));
     }
 
-    @Nullable
-    public JsonArray getCameras() {
-        return getData().getAsJsonArray("cameras");
+    /**
+     * Reads the response from a JSON stream in a single pass, only the camera fields used by the binding are kept.
+     *
+     * @param jsonResponse
+     */
+    public CameraResponse(Reader jsonResponse) {
+        super();
+        JsonReader reader = new JsonReader(jsonResponse);
+        reader.setLenient(true);
+        if (!readResponse(reader, this::readData)) {
+            cameras = Map.of();
+        }
     }
 
     /**
-     * If the camera is enabled
+     * Reads the data object with the camera list
      *
-     * @param cameraId
+     * @param reader
+     * @throws IOException
      */
-    public boolean isEnabled(String cameraId) {
-        for (JsonElement jcamera : getCameras()) {
-            if (jcamera.isJsonObject()) {
-                JsonObject camera = jcamera.getAsJsonObject();
-                if (camera.get("id").getAsString().equals(cameraId)) {
-                    return camera.get("enabled").getAsBoolean();
+    private void readData(JsonReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if ("cameras".equals(reader.nextName()) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                Map<String, CameraResponseObject> index = new LinkedHashMap<>();
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    if (reader.peek() == JsonToken.BEGIN_OBJECT) {
+                        CameraResponseObject camera = CameraResponseObject.read(reader);
+                        index.putIfAbsent(camera.getId(), camera);
+                    } else {
+                        reader.skipValue();
+                    }
                 }
+                reader.endArray();
+                cameras = Collections.unmodifiableMap(index);
+            } else {
+                reader.skipValue();
             }
         }
-        return false;
+        reader.endObject();
+    }
+
+    /**
+     * @return all cameras of this response
+     */
+    public Collection<CameraResponseObject> getCameras() {
+        return cameras.values();
+    }
+
+    /**
+     * @param cameraId
+     * @return the camera or null if it is not part of this response
+     */
+    public @Nullable CameraResponseObject getCamera(String cameraId) {
+        return cameras.get(cameraId);
+    }
+
+    /**
+     * If the camera is part of this response
+     *
+     * @param cameraId
+     */
+    public boolean hasCamera(String cameraId) {
+        return cameras.containsKey(cameraId);
+    }
+
+    /**
+     * If the camera is enabled
+     *
+     * @param cameraId
+     */
+    public boolean isEnabled(String cameraId) {
+        CameraResponseObject camera = cameras.get(cameraId);
+        return camera != null && camera.isEnabled();
     }
 
     /**
@@ -90,15 +152,8 @@ public class CameraResponse extends SimpleResponse {
      * @param cameraId
      */
     public boolean isRecording(String cameraId) {
-        for (JsonElement jcamera : getCameras()) {
-            if (jcamera.isJsonObject()) {
-                JsonObject camera = jcamera.getAsJsonObject();
-                if (camera.get("id").getAsString().equals(cameraId)) {
-                    return (camera.get("recStatus").getAsInt() > 0);
-                }
-            }
-        }
-        return false;
+        CameraResponseObject camera = cameras.get(cameraId);
+        return camera != null && camera.isRecording();
     }
 
     /**
@@ -108,20 +163,11 @@ public class CameraResponse extends SimpleResponse {
      * @return
      */
     public Map<String, Object> getCameraProperties(String cameraId) {
-        JsonArray cameras = this.getCameras().getAsJsonArray();
-
-        for (JsonElement camera : cameras) {
-            if (camera.isJsonObject()) {
-                JsonObject cam = camera.getAsJsonObject();
-
-                String id = cam.get("id").getAsString();
-
-                if (cameraId.equals(id)) {
-                    return createProperties(cam, cameraId);
-                }
-            }
+        CameraResponseObject camera = cameras.get(cameraId);
+        if (camera == null) {
+            return new LinkedHashMap<>();
         }
-        return new LinkedHashMap<>();
+        return createProperties(camera, cameraId);
     }
 
     /**
@@ -131,19 +177,19 @@ public class CameraResponse extends SimpleResponse {
      * @param cameraId
      * @return
      */
-    private Map<String, Object> createProperties(JsonObject cam, String cameraId) {
+    private Map<String, Object> createProperties(CameraResponseObject cam, String cameraId) {
         Map<String, Object> properties = new LinkedHashMap<>();
 
         properties.put(DEVICE_ID, cameraId);
-        properties.put(SynoApiResponse.PROP_VENDOR, cam.get(SynoApiResponse.PROP_VENDOR).getAsString());
-        properties.put(SynoApiResponse.PROP_MODEL, cam.get(SynoApiResponse.PROP_MODEL).getAsString());
-        properties.put(SynoApiResponse.PROP_DEVICETYPE, cam.get(SynoApiResponse.PROP_DEVICETYPE).getAsString());
-        properties.put(SynoApiResponse.PROP_HOST, cam.get(SynoApiResponse.PROP_HOST).getAsString());
-        properties.put(SynoApiResponse.PROP_RESOLUTION, cam.get(SynoApiResponse.PROP_RESOLUTION).getAsString());
-        properties.put(SynoApiResponse.PROP_TYPE, cam.get(SynoApiResponse.PROP_TYPE).getAsString());
+        properties.put(SynoApiResponse.PROP_VENDOR, cam.getVendor());
+        properties.put(SynoApiResponse.PROP_MODEL, cam.getModel());
+        properties.put(SynoApiResponse.PROP_DEVICETYPE, cam.getDeviceType());
+        properties.put(SynoApiResponse.PROP_HOST, cam.getHost());
+        properties.put(SynoApiResponse.PROP_RESOLUTION, cam.getResolution());
+        properties.put(SynoApiResponse.PROP_TYPE, cam.getType());
 
         // check PTZ capabilities
-        int ptzCap = cam.get("ptzCap").getAsInt();
+        int ptzCap = cam.getPtzCap();
         properties.put(SynoApiResponse.PROP_PTZ, (ptzCap > 0) ? "true" : "false");
 
         if (ptzCap > 0) {
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.webapi.response;
+
+import java.io.IOException;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+
+import com.google.gson.stream.JsonReader;
+
+/**
+ * {@link CameraResponseObject} is an immutable camera entry of a camera list or info response
+ *
+ * @author Pavion - Initial contribution
+ */
+@NonNullByDefault
+public class CameraResponseObject {
+
+    private final String id;
+    private final String name;
+    private final boolean enabled;
+    private final int recStatus;
+    private final int ptzCap;
+    private final String vendor;
+    private final String model;
+    private final String deviceType;
+    private final String host;
+    private final String resolution;
+    private final String type;
+
+    private CameraResponseObject(String id, String name, boolean enabled, int recStatus, int ptzCap, String vendor,
+            String model, String deviceType, String host, String resolution, String type) {
+        this.id = id;
+        this.name = name;
+        this.enabled = enabled;
+        this.recStatus = recStatus;
+        this.ptzCap = ptzCap;
+        this.vendor = vendor;
+        this.model = model;
+        this.deviceType = deviceType;
+        this.host = host;
+        this.resolution = resolution;
+        this.type = type;
+    }
+
+    /**
+     * Reads a camera from a JSON stream, nested objects like stream details are skipped
+     *
+     * @param reader JSON stream positioned at the camera object
+     * @return
+     * @throws IOException
+     */
+    static CameraResponseObject read(JsonReader reader) throws IOException {
+        String id = "";
+        String name = "";
+        boolean enabled = false;
+        int recStatus = 0;
+        int ptzCap = 0;
+        String vendor = "";
+        String model = "";
+        String deviceType = "";
+        String host = "";
+        String resolution = "";
+        String type = "";
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "id":
+                    id = SynoApiResponse.nextString(reader);
+                    break;
+                case "name":
+                    name = SynoApiResponse.nextString(reader);
+                    break;
+                case "enabled":
+                    enabled = SynoApiResponse.nextBoolean(reader);
+                    break;
+                case "recStatus":
+                    recStatus = SynoApiResponse.nextInt(reader);
+                    break;
+                case "ptzCap":
+                    ptzCap = SynoApiResponse.nextInt(reader);
+                    break;
+                case SynoApiResponse.PROP_VENDOR:
+                    vendor = SynoApiResponse.nextString(reader);
+                    break;
+                case SynoApiResponse.PROP_MODEL:
+                    model = SynoApiResponse.nextString(reader);
+                    break;
+                case SynoApiResponse.PROP_DEVICETYPE:
+                    deviceType = SynoApiResponse.nextString(reader);
+                    break;
+                case SynoApiResponse.PROP_HOST:
+                    host = SynoApiResponse.nextString(reader);
+                    break;
+                case SynoApiResponse.PROP_RESOLUTION:
+                    resolution = SynoApiResponse.nextString(reader);
+                    break;
+                case SynoApiResponse.PROP_TYPE:
+                    type = SynoApiResponse.nextString(reader);
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new CameraResponseObject(id, name, enabled, recStatus, ptzCap, vendor, model, deviceType, host,
+                resolution, type);
+    }
+
+    /**
+     * @return the id
+     */
+    public String getId() {
+        return id;
+    }
+
+    /**
+     * @return the name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return if the camera is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return if the camera is recording
+     */
+    public boolean isRecording() {
+        return recStatus > 0;
+    }
+
+    /**
+     * @return the recStatus
+     */
+    public int getRecStatus() {
+        return recStatus;
+    }
+
+    /**
+     * @return the PTZ capabilities
+     */
+    public int getPtzCap() {
+        return ptzCap;
+    }
+
+    /**
+     * @return the vendor
+     */
+    public String getVendor() {
+        return vendor;
+    }
+
+    /**
+     * @return the model
+     */
+    public String getModel() {
+        return model;
+    }
+
+    /**
+     * @return the deviceType
+     */
+    public String getDeviceType() {
+        return deviceType;
+    }
+
+    /**
+     * @return the host
+     */
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * @return the resolution
+     */
+    public String getResolution() {
+        return resolution;
+    }
+
+    /**
+     * @return the type
+     */
+    public String getType() {
+        return type;
+    }
+}
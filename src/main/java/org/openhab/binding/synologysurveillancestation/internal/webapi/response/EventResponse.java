@@ -12,15 +12,17 @@
  */
 package org.openhab.binding.synologysurveillancestation.internal.webapi.response;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.eclipse.jdt.annotation.NonNullByDefault;
-import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoEvent;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 /**
  * {@link EventResponse} is a response with current events
@@ -31,8 +33,11 @@ import com.google.gson.JsonObject;
 public class EventResponse extends SimpleResponse {
     private static final int EVENT_POLL_OVERHEAD = 30;
 
-    private Map<Integer, SynoEvent> synoEvents = new HashMap<>();
+    private final EventTable synoEvents = new EventTable();
+    private final Map<String, EventTable> cameraEvents = new HashMap<>();
+    private Map<String, Long> lastEventIds = new HashMap<>();
     private long timestamp = 0;
+    private int eventCount = 0;
 
     /**
      * Constructs SynoEvents from JSON string.
@@ -40,62 +45,208 @@ public class EventResponse extends SimpleResponse {
      * @param jsonResponse
      */
     public EventResponse(String jsonResponse) {
-        super(jsonResponse);
-        if (isSuccess()) {
-            JsonArray events = getData().getAsJsonArray("events");
-            timestamp = getData().getAsJsonObject().get("timestamp").getAsLong() - EVENT_POLL_OVERHEAD;
-            for (JsonElement event : events) {
-                if (event.isJsonObject()) {
-                    JsonObject cam = event.getAsJsonObject();
-                    int reason = cam.get("reason").getAsInt();
-                    if (!hasEvent(reason)) {
-                        long starttime = cam.get("startTime").getAsLong();
-                        long eventId = cam.get("eventId").getAsLong();
-                        boolean eventCompleted = cam.get("is_complete").getAsBoolean();
-                        synoEvents.put(reason, new SynoEvent(eventId, eventCompleted, reason));
-                        if (!eventCompleted && starttime < timestamp) {
-                            timestamp = starttime;
-                        }
+        this(new StringReader(jsonResponse));
+    }
+
+    /**
+     * Constructs SynoEvents from a JSON stream in a single pass, only the fields needed per event are kept.
+     *
+     * @param jsonResponse
+     */
+    public EventResponse(Reader jsonResponse) {
+        super();
+        JsonReader reader = new JsonReader(jsonResponse);
+        reader.setLenient(true);
+        if (!readResponse(reader, this::readData) || !isSuccess()) {
+            synoEvents.clear();
+            cameraEvents.clear();
+            lastEventIds.clear();
+            timestamp = 0;
+            eventCount = 0;
+        }
+    }
+
+    /**
+     * Combines a response with the next page of older events. Events of a reason already present are kept, the
+     * responses themselves are not modified as they may be shared by coalesced requests.
+     *
+     * @param newer
+     * @param older
+     */
+    private EventResponse(EventResponse newer, EventResponse older) {
+        super(newer.toString());
+        for (EventResponse response : List.of(newer, older)) {
+            synoEvents.putAbsent(response.synoEvents);
+            for (Map.Entry<String, EventTable> entry : response.cameraEvents.entrySet()) {
+                cameraEvents.computeIfAbsent(entry.getKey(), k -> new EventTable()).putAbsent(entry.getValue());
+            }
+            for (Map.Entry<String, Long> entry : response.lastEventIds.entrySet()) {
+                lastEventIds.merge(entry.getKey(), entry.getValue(), Math::max);
+            }
+        }
+        timestamp = Math.min(newer.timestamp, older.timestamp);
+        eventCount = newer.eventCount + older.eventCount;
+    }
+
+    /**
+     * @param older Next page of older events
+     * @return a new response holding the events of this response and of the older page
+     */
+    public EventResponse merge(EventResponse older) {
+        return new EventResponse(this, older);
+    }
+
+    /**
+     * Reads the data object with the server timestamp and the event list
+     *
+     * @param reader
+     * @throws IOException
+     */
+    private void readData(JsonReader reader) throws IOException {
+        long serverTime = 0;
+        long oldestOpenEvent = Long.MAX_VALUE;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if ("timestamp".equals(name)) {
+                serverTime = reader.nextLong();
+            } else if ("events".equals(name) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    if (reader.peek() == JsonToken.BEGIN_OBJECT) {
+                        oldestOpenEvent = Math.min(oldestOpenEvent, readEvent(reader));
+                    } else {
+                        reader.skipValue();
                     }
                 }
+                reader.endArray();
+            } else {
+                reader.skipValue();
             }
         }
+        reader.endObject();
+        timestamp = Math.min(serverTime - EVENT_POLL_OVERHEAD, oldestOpenEvent);
     }
 
     /**
-     * How many events were returned?
+     * Reads a single event. Events are sorted by descending start time, so only the first event per reason and
+     * camera is kept.
      *
-     * @return
+     * @param reader
+     * @return start time of the event if it is the first still open one of its reason, Long.MAX_VALUE otherwise
+     * @throws IOException
      */
-    public boolean isEmpty() {
-        return synoEvents.isEmpty();
+    private long readEvent(JsonReader reader) throws IOException {
+        int reason = 0;
+        long eventId = 0;
+        long startTime = 0;
+        long stopTime = 0;
+        boolean eventCompleted = false;
+        String cameraId = "";
+        boolean hasCameraId = false;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "reason":
+                    reason = reader.nextInt();
+                    break;
+                case "eventId":
+                    eventId = nextLong(reader);
+                    break;
+                case "startTime":
+                    startTime = nextLong(reader);
+                    break;
+                case "stopTime":
+                    stopTime = nextLong(reader);
+                    break;
+                case "is_complete":
+                    eventCompleted = nextBoolean(reader);
+                    break;
+                case "camera_id":
+                    cameraId = reader.nextString();
+                    hasCameraId = true;
+                    break;
+                case "cameraId":
+                    if (hasCameraId) {
+                        reader.skipValue();
+                    } else {
+                        cameraId = reader.nextString();
+                    }
+                    break;
+                default:
+                    reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        eventCount++;
+        if (eventId > lastEventIds.getOrDefault(cameraId, -1L)) {
+            lastEventIds.put(cameraId, eventId);
+        }
+        EventTable camEvents = cameraEvents.computeIfAbsent(cameraId, k -> new EventTable());
+        if (camEvents.putIfAbsent(reason, eventId, eventCompleted, startTime, stopTime)) {
+            synoEvents.putIfAbsent(reason, eventId, eventCompleted, startTime, stopTime);
+            if (!eventCompleted) {
+                return startTime;
+            }
+        }
+        return Long.MAX_VALUE;
     }
 
     /**
-     * Get the first (latest) event (if available)
+     * How many events were returned?
      *
      * @return
      */
-    public SynoEvent getFirst() {
-        if (synoEvents.isEmpty()) {
-            return new SynoEvent(0);
-        } else {
-            return synoEvents.getOrDefault(0, new SynoEvent(0));
-        }
+    public boolean isEmpty() {
+        return synoEvents.isEmpty();
     }
 
     /**
      * @return if the event with specified reason exists
      */
     public boolean hasEvent(int eventReason) {
-        return synoEvents.containsKey(eventReason);
+        return synoEvents.hasEvent(eventReason);
+    }
+
+    /**
+     * @return the latest events of all cameras by reason
+     */
+    public EventTable getEvents() {
+        return synoEvents;
+    }
+
+    /**
+     * @return if the event with specified reason exists for the specified camera
+     */
+    public boolean hasEvent(String cameraId, int eventReason) {
+        return getEvents(cameraId).hasEvent(eventReason);
+    }
+
+    /**
+     * @return the latest events of the specified camera by reason
+     */
+    public EventTable getEvents(String cameraId) {
+        return cameraEvents.getOrDefault(cameraId, EventTable.EMPTY);
+    }
+
+    /**
+     * Returns the highest event ID of a camera contained in this response. Events without a camera ID are attributed
+     * to any camera (single camera requests).
+     *
+     * @param cameraId
+     * @return highest event ID or -1 if no event is available
+     */
+    public long getLastEventId(String cameraId) {
+        return lastEventIds.getOrDefault(cameraId, lastEventIds.getOrDefault("", -1L));
     }
 
     /**
-     * @return the event with specified reason
+     * @return the number of events contained in the response, including events not kept
      */
-    public SynoEvent getEvent(int eventReason) {
-        return synoEvents.getOrDefault(eventReason, new SynoEvent(0));
+    public int getEventCount() {
+        return eventCount;
     }
 
     /**
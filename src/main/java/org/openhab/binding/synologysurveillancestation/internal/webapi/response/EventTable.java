@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.webapi.response;
+
+import java.util.Arrays;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openhab.binding.synologysurveillancestation.internal.webapi.SynoEvent;
+
+/**
+ * {@link EventTable} holds the latest event of each reason in fixed arrays indexed by the event reason, so looking
+ * up an event neither boxes the reason nor allocates an event object. Unknown reasons are ignored.
+ *
+ * @author Pavion - Initial contribution
+ */
+@NonNullByDefault
+public class EventTable {
+
+    /**
+     * Empty table for cameras without events
+     */
+    static final EventTable EMPTY = new EventTable();
+
+    private static final int SIZE = SynoEvent.EVENT_REASON_ACTIONRULE + 1;
+
+    private final long[] eventIds = new long[SIZE];
+    private final long[] startTimes = new long[SIZE];
+    private final long[] stopTimes = new long[SIZE];
+    private final boolean[] completed = new boolean[SIZE];
+    private int count = 0;
+
+    EventTable() {
+        Arrays.fill(eventIds, -1);
+    }
+
+    /**
+     * Stores an event unless an event of the same reason is already present
+     *
+     * @return true if the event has been stored
+     */
+    boolean putIfAbsent(int reason, long eventId, boolean eventCompleted, long startTime, long stopTime) {
+        if (reason <= 0 || reason >= SIZE || eventIds[reason] >= 0 || eventId < 0) {
+            return false;
+        }
+        eventIds[reason] = eventId;
+        completed[reason] = eventCompleted;
+        startTimes[reason] = startTime;
+        stopTimes[reason] = stopTime;
+        count++;
+        return true;
+    }
+
+    /**
+     * Stores all events of another table whose reason is not yet present
+     *
+     * @param other
+     */
+    void putAbsent(EventTable other) {
+        for (int reason = 1; reason < SIZE; reason++) {
+            if (other.hasEvent(reason)) {
+                putIfAbsent(reason, other.eventIds[reason], other.completed[reason], other.startTimes[reason],
+                        other.stopTimes[reason]);
+            }
+        }
+    }
+
+    /**
+     * Removes all events
+     */
+    void clear() {
+        Arrays.fill(eventIds, -1);
+        count = 0;
+    }
+
+    /**
+     * @return if no event is present
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * @return if an event with specified reason is present
+     */
+    public boolean hasEvent(int reason) {
+        return reason > 0 && reason < SIZE && eventIds[reason] >= 0;
+    }
+
+    /**
+     * @return the event ID with specified reason or -1 if not present
+     */
+    public long getEventId(int reason) {
+        return hasEvent(reason) ? eventIds[reason] : -1;
+    }
+
+    /**
+     * @return if the event with specified reason is completed, true if not present
+     */
+    public boolean isEventCompleted(int reason) {
+        return !hasEvent(reason) || completed[reason];
+    }
+
+    /**
+     * @return the start time (epoch seconds) of the event with specified reason or 0 if not present
+     */
+    public long getStartTime(int reason) {
+        return hasEvent(reason) ? startTimes[reason] : 0;
+    }
+
+    /**
+     * @return the stop time (epoch seconds) of the event with specified reason or 0 if not present or still open
+     */
+    public long getStopTime(int reason) {
+        return hasEvent(reason) ? stopTimes[reason] : 0;
+    }
+}
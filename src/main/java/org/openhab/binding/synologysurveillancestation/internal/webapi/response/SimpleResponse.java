@@ -22,6 +22,13 @@ import org.eclipse.jdt.annotation.NonNullByDefault;
 @NonNullByDefault
 public class SimpleResponse extends SynoApiResponse {
 
+    /**
+     * Creates an unsuccessful response to be filled by a streaming decoder
+     */
+    protected SimpleResponse() {
+        super();
+    }
+
     /**
      * @param jsonResponse
      */
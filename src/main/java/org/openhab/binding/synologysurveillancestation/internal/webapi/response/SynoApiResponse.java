@@ -12,12 +12,17 @@
  */
 package org.openhab.binding.synologysurveillancestation.internal.webapi.response;
 
+import java.io.IOException;
+
 import org.eclipse.jdt.annotation.NonNullByDefault;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 /**
  * {@link SynoApiResponse} is an abstract class for an API response
@@ -66,6 +71,132 @@ public abstract class SynoApiResponse {
         }
     }
 
+    /**
+     * Reads the data object of a streamed response
+     */
+    @FunctionalInterface
+    protected interface DataReader {
+        void read(JsonReader reader) throws IOException;
+    }
+
+    /**
+     * Reads a response in one pass without building a tree for the data. Only the envelope (success and error) is
+     * kept, the data object is handed over to the data reader. On malformed input the default (unsuccessful)
+     * response is kept.
+     *
+     * @param reader JSON stream positioned at the response object
+     * @param dataReader Reader consuming the data object
+     * @return true if the response has been read completely
+     */
+    protected boolean readResponse(JsonReader reader, DataReader dataReader) {
+        JsonObject json = new JsonObject();
+        json.add("data", new JsonObject());
+        try {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "success":
+                        json.addProperty("success", reader.nextBoolean());
+                        break;
+                    case "error":
+                        json.add("error", JsonParser.parseReader(reader));
+                        break;
+                    case "data":
+                        if (reader.peek() == JsonToken.BEGIN_OBJECT) {
+                            dataReader.read(reader);
+                        } else {
+                            reader.skipValue();
+                        }
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+            reader.endObject();
+        } catch (IOException | IllegalStateException | NumberFormatException | JsonParseException e) {
+            return false;
+        }
+        this.jsonResponse = json;
+        return true;
+    }
+
+    /**
+     * Reads a boolean value, also accepting quoted and numeric representations
+     *
+     * @param reader
+     * @return
+     * @throws IOException
+     */
+    protected static boolean nextBoolean(JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case BOOLEAN:
+                return reader.nextBoolean();
+            case NUMBER:
+                return reader.nextInt() != 0;
+            case STRING:
+                return Boolean.parseBoolean(reader.nextString());
+            default:
+                reader.skipValue();
+                return false;
+        }
+    }
+
+    /**
+     * Reads a primitive value as string
+     *
+     * @param reader
+     * @return the value or an empty string for null or nested values
+     * @throws IOException
+     */
+    protected static String nextString(JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case STRING:
+            case NUMBER:
+                return reader.nextString();
+            case BOOLEAN:
+                return Boolean.toString(reader.nextBoolean());
+            default:
+                reader.skipValue();
+                return "";
+        }
+    }
+
+    /**
+     * Reads an integer value, also accepting quoted numbers
+     *
+     * @param reader
+     * @return the value or 0 for null or nested values
+     * @throws IOException
+     */
+    protected static int nextInt(JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case STRING:
+            case NUMBER:
+                return reader.nextInt();
+            default:
+                reader.skipValue();
+                return 0;
+        }
+    }
+
+    /**
+     * Reads a long value, also accepting quoted numbers
+     *
+     * @param reader
+     * @return the value or 0 for null or nested values
+     * @throws IOException
+     */
+    protected static long nextLong(JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case STRING:
+            case NUMBER:
+                return reader.nextLong();
+            default:
+                reader.skipValue();
+                return 0;
+        }
+    }
+
     /**
      * @return
      */
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.webapi.response;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.util.function.Function;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.eclipse.jdt.annotation.Nullable;
+
+/**
+ * The {@link SynoResponseCodec} creates responses of one {@link SynoApiResponse} type. Each API registers the codec
+ * of its response type, so responses are created without reflection. Codecs of streamed responses read directly
+ * from the response bytes, all others from the decoded string.
+ *
+ * @author Pavion - Initial contribution
+ */
+@NonNullByDefault
+public final class SynoResponseCodec<T extends SynoApiResponse> {
+
+    private final Class<T> type;
+    private final Function<String, T> stringDecoder;
+    private final @Nullable Function<Reader, T> streamDecoder;
+
+    private SynoResponseCodec(Class<T> type, Function<String, T> stringDecoder,
+            @Nullable Function<Reader, T> streamDecoder) {
+        this.type = type;
+        this.stringDecoder = stringDecoder;
+        this.streamDecoder = streamDecoder;
+    }
+
+    /**
+     * Creates a codec for a response built from a JSON string
+     *
+     * @param type Response type
+     * @param decoder Response factory, usually the String constructor
+     * @return
+     */
+    public static <T extends SynoApiResponse> SynoResponseCodec<T> of(Class<T> type, Function<String, T> decoder) {
+        return new SynoResponseCodec<>(type, decoder, null);
+    }
+
+    /**
+     * Creates a codec for a response read from a JSON stream
+     *
+     * @param type Response type
+     * @param decoder Response factory, usually the Reader constructor
+     * @return
+     */
+    public static <T extends SynoApiResponse> SynoResponseCodec<T> streaming(Class<T> type,
+            Function<Reader, T> decoder) {
+        return new SynoResponseCodec<>(type, json -> decoder.apply(new StringReader(json)), decoder);
+    }
+
+    /**
+     * @return the response type
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * @param json JSON response
+     * @return
+     */
+    public T decode(String json) {
+        return stringDecoder.apply(json);
+    }
+
+    /**
+     * @param rawResponse Response content
+     * @param charset Response encoding
+     * @return
+     */
+    public T decode(byte[] rawResponse, Charset charset) {
+        Function<Reader, T> decoder = streamDecoder;
+        if (decoder != null) {
+            return decoder.apply(new InputStreamReader(new ByteArrayInputStream(rawResponse), charset));
+        }
+        return stringDecoder.apply(new String(rawResponse, charset));
+    }
+
+    /**
+     * @param reader JSON stream
+     * @return
+     */
+    public T decode(Reader reader) {
+        Function<Reader, T> decoder = streamDecoder;
+        if (decoder != null) {
+            return decoder.apply(reader);
+        }
+        StringBuilder json = new StringBuilder();
+        char[] buffer = new char[4096];
+        try {
+            for (int read = reader.read(buffer); read >= 0; read = reader.read(buffer)) {
+                json.append(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return stringDecoder.apply(json.toString());
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2010-2026 Contributors to the openHAB project
+ *
+ * See the NOTICE file(s) distributed with this work for additional
+ * information.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.openhab.binding.synologysurveillancestation.internal.webapi.response;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.jdt.annotation.NonNullByDefault;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The {@link SynoResponseCodecBenchmark} compares creating responses with {@link SynoResponseCodec} against the
+ * former reflective String constructor lookup, for a small string decoded response and a streamed event list.
+ *
+ * Run with: mvn test-compile exec:java -Dexec.classpathScope=test
+ * -Dexec.mainClass=org.openhab.binding.synologysurveillancestation.internal.webapi.response.SynoResponseCodecBenchmark
+ *
+ * @author Pavion - Initial contribution
+ */
+@NonNullByDefault
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SynoResponseCodecBenchmark {
+
+    private static final int EVENTS = 100;
+
+    private static final SynoResponseCodec<LiveUriResponse> LIVE_URI_CODEC =
+            SynoResponseCodec.of(LiveUriResponse.class, LiveUriResponse::new);
+    private static final SynoResponseCodec<EventResponse> EVENT_CODEC =
+            SynoResponseCodec.streaming(EventResponse.class, EventResponse::new);
+
+    private byte[] liveUri = new byte[0];
+    private byte[] events = new byte[0];
+
+    @Setup
+    public void setup() {
+        liveUri = ("{\"data\":[{\"id\":1,\"mjpegHttpPath\":\"http://ds:5000/webapi/entry.cgi?"
+                + "api=SYNO.SurveillanceStation.Stream.VideoStreaming&method=Stream&format=mjpeg&cameraId=1\","
+                + "\"rtspPath\":\"rtsp://ds:554/Sms=1.unicast\"}],\"success\":true}").getBytes(StandardCharsets.UTF_8);
+
+        StringBuilder json = new StringBuilder("{\"data\":{\"timestamp\":1760000000,\"total\":").append(EVENTS)
+                .append(",\"events\":[");
+        for (int i = 0; i < EVENTS; i++) {
+            long start = 1760000000L - i * 60L;
+            json.append(i > 0 ? "," : "").append("{\"eventId\":").append(EVENTS - i).append(",\"camera_id\":")
+                    .append(i % 4 + 1).append(",\"cameraName\":\"Camera ").append(i % 4 + 1)
+                    .append("\",\"reason\":").append(i % 7 + 1).append(",\"startTime\":").append(start)
+                    .append(",\"stopTime\":").append(start + 30).append(",\"is_complete\":").append(i > 0)
+                    .append(",\"path\":\"Camera/20251009AM/Camera-").append(i).append(".mp4\",\"frameCount\":900}");
+        }
+        events = json.append("]},\"success\":true}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public LiveUriResponse liveUriReflection() throws ReflectiveOperationException {
+        return decodeReflective(LiveUriResponse.class, liveUri);
+    }
+
+    @Benchmark
+    public LiveUriResponse liveUriCodec() {
+        return LIVE_URI_CODEC.decode(liveUri, StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public EventResponse eventsReflection() throws ReflectiveOperationException {
+        return decodeReflective(EventResponse.class, events);
+    }
+
+    @Benchmark
+    public EventResponse eventsCodec() {
+        return EVENT_CODEC.decode(events, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates a response the way the APIs did before the codecs: decoding the content into a string and calling
+     * the String constructor looked up by reflection
+     */
+    private static <T extends SynoApiResponse> T decodeReflective(Class<T> type, byte[] rawResponse)
+            throws ReflectiveOperationException {
+        return type.getConstructor(String.class).newInstance(new String(rawResponse, StandardCharsets.UTF_8));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SynoResponseCodecBenchmark.class.getSimpleName()).build()).run();
+    }
+}